@@ -0,0 +1,64 @@
+package org.playwright.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.microsoft.playwright.PlaywrightException;
+import org.playwright.jackson.JacksonUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files. Benchmarks are matched by name, mode and params; throughput regresses when it
+ * drops, every other mode when its score grows.
+ */
+final class BaselineComparison {
+
+  private BaselineComparison() {
+    throw new PlaywrightException("BaselineComparison should not be instantiated!");
+  }
+
+  static List<Regression> compare(Path baseline, Path result, double threshold) {
+    Map<String, JsonNode> baselineScores = scores(baseline);
+    List<Regression> regressions = new ArrayList<>();
+    scores(result).forEach((key, current) -> {
+      JsonNode previous = baselineScores.get(key);
+      if (previous == null) {
+        return;
+      }
+      double before = previous.path("primaryMetric").path("score").asDouble();
+      double after = current.path("primaryMetric").path("score").asDouble();
+      double change = before == 0 ? 0 : (after - before) / before;
+      double regression = "thrpt".equals(current.path("mode").asText()) ? -change : change;
+      if (regression > threshold) {
+        regressions.add(new Regression(key, before, after, current.path("primaryMetric").path("scoreUnit").asText()));
+      }
+    });
+    return regressions;
+  }
+
+  private static Map<String, JsonNode> scores(Path path) {
+    JsonNode runs;
+    try {
+      runs = JacksonUtils.readerFor(JsonNode.class).readTree(Files.readAllBytes(path));
+    } catch (IOException e) {
+      throw new PlaywrightException("Error reading benchmark results " + path, e);
+    }
+    Map<String, JsonNode> scores = new HashMap<>();
+    runs.forEach(run -> scores.put(run.path("benchmark").asText() + " " + run.path("mode").asText() + " "
+        + run.path("params"), run));
+    return scores;
+  }
+
+  record Regression(String benchmark, double baseline, double current, String unit) {
+    @Override
+    public String toString() {
+      return String.format("%s: %.3f -> %.3f %s (%+.1f%%)", benchmark, baseline, current, unit,
+          (current - baseline) / baseline * 100);
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package org.playwright.benchmarks;
+
+import com.microsoft.playwright.PlaywrightException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+final class BenchmarkFiles {
+
+  private BenchmarkFiles() {
+    throw new PlaywrightException("BenchmarkFiles should not be instantiated!");
+  }
+
+  static void deleteRecursively(Path dir) throws IOException {
+    if (dir == null || !Files.exists(dir)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(dir)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package org.playwright.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Accepts the JMH command line ({@code -h} for help) and writes the results as
+ * JMH JSON to {@value #DEFAULT_RESULT} unless {@code -rf}/{@code -rff} say otherwise. <br><br>
+ *
+ * <p>With {@code -Dbaseline=<jmh json>} the results are compared against an earlier run, and the process exits with 1
+ * when any benchmark regressed by more than {@code -Dthreshold} (a fraction, 0.10 by default). For example:</p>
+ *
+ * <pre>
+ * java -Dbaseline=jmh-baseline.json -jar playwright-benchmarks/target/benchmarks.jar JacksonUtilsBenchmark
+ * </pre>
+ */
+public final class BenchmarkRunner {
+  static final String DEFAULT_RESULT = "jmh-result.json";
+
+  private BenchmarkRunner() {
+  }
+
+  /**
+   * Run the benchmarks selected on the command line.
+   *
+   * @param args JMH command line
+   * @throws CommandLineOptionException if the command line is invalid
+   * @throws RunnerException            if a benchmark fails
+   */
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    CommandLineOptions commandLine = new CommandLineOptions(args);
+    if (commandLine.shouldHelp() || commandLine.shouldList()) {
+      new Runner(commandLine).list();
+      return;
+    }
+
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+    if (!commandLine.getResultFormat().hasValue()) {
+      options.resultFormat(ResultFormatType.JSON);
+    }
+    if (!commandLine.getResult().hasValue()) {
+      options.result(DEFAULT_RESULT);
+    }
+    new Runner(options.build()).run();
+
+    String baseline = System.getProperty("baseline");
+    if (baseline != null) {
+      Path result = Paths.get(commandLine.getResult().orElse(DEFAULT_RESULT));
+      double threshold = Double.parseDouble(System.getProperty("threshold", "0.10"));
+      List<BaselineComparison.Regression> regressions = BaselineComparison.compare(Paths.get(baseline), result,
+          threshold);
+      regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+      if (!regressions.isEmpty()) {
+        System.exit(1);
+      }
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package org.playwright.benchmarks;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Playwright;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.playwright.common.PlaywrightResource;
+import org.playwright.core.PlaywrightResourceFactory;
+import org.playwright.core.options.BrowserContextOption;
+import org.playwright.core.options.TracingPolicy;
+import org.playwright.core.options.TracingStartOption;
+import org.playwright.core.options.TracingStopOption;
+import org.playwright.core.options.VideoPolicy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a test's BrowserContext (create, render one page, close) with and without tracing and video recording.
+ * Traces and videos are written to a temporary directory deleted after the trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BrowserContextBenchmark {
+  @Param({"NONE", "TRACING", "VIDEO", "TRACING_AND_VIDEO"})
+  String recording;
+
+  private Path outputDir;
+  private Playwright playwright;
+  private Browser browser;
+  private BrowserContextOption browserContextOption;
+  private TracingStartOption tracingStartOption;
+  private TracingStopOption tracingStopOption;
+
+  /**
+   * Launch the browser and build the options of the recording mode.
+   *
+   * @throws IOException if the output directory can't be created
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    outputDir = Files.createTempDirectory("context-benchmark");
+    playwright = PlaywrightResourceFactory.create(PlaywrightResource.PLAYWRIGHT);
+    browser = PlaywrightResourceFactory.create(PlaywrightResource.BROWSER);
+
+    browserContextOption = BrowserContextOption.builder()
+        .videoPolicy(recording.contains("VIDEO") ? VideoPolicy.ALWAYS : VideoPolicy.OFF)
+        .recordVideoDir(outputDir.resolve("video").toString())
+        .build();
+    tracingStartOption = TracingStartOption.builder()
+        .policy(recording.contains("TRACING") ? TracingPolicy.ALWAYS : TracingPolicy.OFF)
+        .build();
+    tracingStopOption = TracingStopOption.builder().tracingDir(outputDir.resolve("trace")).build();
+  }
+
+  /**
+   * Close the browser and delete the recorded files.
+   *
+   * @throws IOException if the output directory can't be deleted
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    PlaywrightResourceFactory.close(browser);
+    PlaywrightResourceFactory.close(playwright);
+    BenchmarkFiles.deleteRecursively(outputDir);
+  }
+
+  /**
+   * Create a context with the recording mode, render one page and close the context, writing its trace and video.
+   */
+  @Benchmark
+  public void createAndClose() {
+    BrowserContext browserContext = PlaywrightResourceFactory.create(PlaywrightResource.BROWSER_CONTEXT,
+        browserContextOption, tracingStartOption);
+    browserContext.newPage().setContent("<h1>benchmark</h1>");
+    PlaywrightResourceFactory.close(browserContext, tracingStopOption);
+  }
+}
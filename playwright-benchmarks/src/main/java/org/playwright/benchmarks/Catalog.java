@@ -0,0 +1,15 @@
+package org.playwright.benchmarks;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Catalog {
+  private String name;
+  private List<Item> items;
+}
@@ -0,0 +1,23 @@
+package org.playwright.benchmarks;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Typical test fixture record used as JSON payload element.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Item {
+  private long id;
+  private String name;
+  private double price;
+  private boolean available;
+  private List<String> tags;
+  private Instant updatedAt;
+}
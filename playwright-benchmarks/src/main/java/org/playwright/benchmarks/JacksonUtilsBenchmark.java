@@ -0,0 +1,207 @@
+package org.playwright.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.playwright.jackson.DataFormat;
+import org.playwright.jackson.JacksonUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of every {@link JacksonUtils} read and write path for payloads of {@code size} items. File based paths read
+ * and write a temporary directory deleted after the trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonUtilsBenchmark {
+  @Param({"10", "1000", "100000"})
+  int size;
+
+  private Path dir;
+  private Catalog catalog;
+  private String listJson;
+  private byte[] listJsonBytes;
+  private byte[] listSmileBytes;
+  private String mapJson;
+  private byte[] mapJsonBytes;
+  private String mapPath;
+  private String catalogJson;
+  private byte[] catalogJsonBytes;
+  private Path listPath;
+  private Path outputPath;
+
+  /**
+   * Build the payloads in every shape and format read by the benchmarks.
+   *
+   * @throws IOException if the fixture files can't be written
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("jackson-benchmark");
+    List<Item> items = new ArrayList<>(size);
+    Map<String, Item> itemsById = new LinkedHashMap<>();
+    Instant now = Instant.parse("2024-01-01T00:00:00Z");
+    for (int i = 0; i < size; i++) {
+      Item item = new Item(i, "item-" + i, i * 1.25, i % 2 == 0, List.of("tag-" + i % 7, "tag-" + i % 11),
+          now.plusSeconds(i));
+      items.add(item);
+      itemsById.put("item-" + i, item);
+    }
+    catalog = new Catalog("benchmark", items);
+
+    listJson = JacksonUtils.serializeToString(items);
+    listJsonBytes = JacksonUtils.serializeToBytes(items, DataFormat.JSON_COMPACT);
+    listSmileBytes = JacksonUtils.serializeToBytes(items, DataFormat.SMILE);
+    mapJson = JacksonUtils.serializeToString(itemsById);
+    mapJsonBytes = JacksonUtils.serializeToBytes(itemsById, DataFormat.JSON_COMPACT);
+    catalogJson = JacksonUtils.serializeToString(catalog);
+    catalogJsonBytes = JacksonUtils.serializeToBytes(catalog, DataFormat.JSON_COMPACT);
+
+    listPath = dir.resolve("items.json");
+    JacksonUtils.serialize(items, listPath);
+    Path mapFile = dir.resolve("items-by-id.json");
+    JacksonUtils.serialize(itemsById, mapFile);
+    mapPath = mapFile.toString();
+    outputPath = dir.resolve("output.json");
+  }
+
+  /**
+   * Delete the fixture files.
+   *
+   * @throws IOException if the files can't be deleted
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    JacksonUtils.getFixtureCache().clear();
+    BenchmarkFiles.deleteRecursively(dir);
+  }
+
+  @Benchmark
+  public List<Item> deserializeToListFromString() {
+    return JacksonUtils.deserializeToList(listJson, Item.class);
+  }
+
+  @Benchmark
+  public List<Item> deserializeToListFromJsonBytes() {
+    return JacksonUtils.deserializeToList(listJsonBytes, Item.class);
+  }
+
+  @Benchmark
+  public List<Item> deserializeToListFromSmileBytes() {
+    return JacksonUtils.deserializeToList(listSmileBytes, Item.class);
+  }
+
+  @Benchmark
+  public Map<String, Item> deserializeToMapFromString() {
+    return JacksonUtils.deserializeToMap(mapJson, Item.class);
+  }
+
+  @Benchmark
+  public Map<String, Item> deserializeToMapFromBytes() {
+    return JacksonUtils.deserializeToMap(mapJsonBytes, Item.class);
+  }
+
+  @Benchmark
+  public Map<String, Item> deserializeToMapFromCachedFile() {
+    return JacksonUtils.deserializeToMap(mapPath, Item.class);
+  }
+
+  @Benchmark
+  public Catalog deserializeToObjFromString() {
+    return JacksonUtils.deserializeToObj(catalogJson, Catalog.class);
+  }
+
+  @Benchmark
+  public Catalog deserializeToObjFromBytes() {
+    return JacksonUtils.deserializeToObj(catalogJsonBytes, Catalog.class);
+  }
+
+  @Benchmark
+  public Catalog deserializeToObjFromInputStream() {
+    return JacksonUtils.deserializeToObj(new ByteArrayInputStream(catalogJsonBytes), Catalog.class);
+  }
+
+  /**
+   * Bind the items of a file one at a time.
+   *
+   * @param blackhole sink of the items
+   * @throws IOException if the file can't be read
+   */
+  @Benchmark
+  public void iterateList(Blackhole blackhole) throws IOException {
+    try (var iterator = JacksonUtils.iterateList(listPath, Item.class)) {
+      while (iterator.hasNext()) {
+        blackhole.consume(iterator.next());
+      }
+    }
+  }
+
+  /**
+   * Stream the items of a file.
+   *
+   * @param blackhole sink of the items
+   */
+  @Benchmark
+  public void streamList(Blackhole blackhole) {
+    try (Stream<Item> stream = JacksonUtils.streamList(listPath, Item.class)) {
+      stream.forEach(blackhole::consume);
+    }
+  }
+
+  @Benchmark
+  public String serializeToString() {
+    return JacksonUtils.serializeToString(catalog);
+  }
+
+  @Benchmark
+  public byte[] serializeToCompactJsonBytes() {
+    return JacksonUtils.serializeToBytes(catalog, DataFormat.JSON_COMPACT);
+  }
+
+  @Benchmark
+  public byte[] serializeToSmileBytes() {
+    return JacksonUtils.serializeToBytes(catalog, DataFormat.SMILE);
+  }
+
+  @Benchmark
+  public byte[] serializeToCborBytes() {
+    return JacksonUtils.serializeToBytes(catalog, DataFormat.CBOR);
+  }
+
+  @Benchmark
+  public void serializeToOutputStream() {
+    JacksonUtils.serialize(catalog, DataFormat.JSON_COMPACT, OutputStream.nullOutputStream());
+  }
+
+  @Benchmark
+  public void serializeToPath() {
+    JacksonUtils.serialize(catalog, outputPath);
+  }
+}
@@ -0,0 +1,80 @@
+package org.playwright.benchmarks;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.playwright.common.PlaywrightResource;
+import org.playwright.common.ResourceOptionArg;
+import org.playwright.core.PlaywrightResourceFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link PlaywrightResourceFactory#create} followed by {@link PlaywrightResourceFactory#close} for every
+ * {@link PlaywrightResource}. The Playwright and Browser a resource depends on are created once per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ResourceFactoryBenchmark {
+  @Param({"PLAYWRIGHT", "BROWSER", "BROWSER_CONTEXT", "BROWSER_POOL", "BROWSER_CONTEXT_POOL", "PLAYWRIGHT_DISPATCHER",
+      "PERSISTENT_CONTEXT"})
+  PlaywrightResource resource;
+
+  private Object[] args;
+  private Playwright playwright;
+  private Browser browser;
+
+  /**
+   * Create the resources the benchmarked resource depends on.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    args = switch (resource) {
+      case PLAYWRIGHT -> new Object[] {ResourceOptionArg.NEW_PLAYWRIGHT_INSTANCE};
+      case BROWSER -> new Object[] {ResourceOptionArg.NEW_BROWSER_INSTANCE};
+      default -> new Object[0];
+    };
+
+    if (resource == PlaywrightResource.BROWSER || resource == PlaywrightResource.BROWSER_CONTEXT
+        || resource == PlaywrightResource.PERSISTENT_CONTEXT) {
+      playwright = PlaywrightResourceFactory.create(PlaywrightResource.PLAYWRIGHT);
+    }
+    if (resource == PlaywrightResource.BROWSER_CONTEXT) {
+      browser = PlaywrightResourceFactory.create(PlaywrightResource.BROWSER);
+    }
+  }
+
+  /**
+   * Close the resources created by {@link #setUp()}.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (browser != null) {
+      PlaywrightResourceFactory.close(browser);
+    }
+    if (playwright != null) {
+      PlaywrightResourceFactory.close(playwright);
+    }
+  }
+
+  @Benchmark
+  public void createAndClose() {
+    PlaywrightResourceFactory.close(PlaywrightResourceFactory.create(resource, args));
+  }
+}
@@ -0,0 +1,145 @@
+package org.playwright.benchmarks;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.options.WaitUntilState;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.playwright.common.PlaywrightResource;
+import org.playwright.common.WaitUtils;
+import org.playwright.core.PlaywrightResourceFactory;
+import org.playwright.core.options.BrowserContextOption;
+import org.playwright.core.options.TracingPolicy;
+import org.playwright.core.options.TracingStartOption;
+import org.playwright.core.options.VideoPolicy;
+import org.playwright.core.options.WaitCondition;
+import org.playwright.core.options.WaitOption;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of navigating to a page and waiting for it to settle with {@link WaitUtils#waitForAllLoadStates(Page,
+ * WaitOption)}. The page is served by an embedded HTTP server: a few scripts and stylesheets, plus a request fired
+ * after load that takes {@value #SLOW_API_MILLIS} ms, so that network quiet waits for more than the load event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WaitUtilsBenchmark {
+  private static final int SLOW_API_MILLIS = 100;
+  private static final int ASSETS = 6;
+
+  @Param({"DOMCONTENTLOADED", "LOAD", "NETWORK_QUIET", "ALL"})
+  WaitCondition condition;
+
+  private ExecutorService serverExecutor;
+  private HttpServer server;
+  private String url;
+  private Playwright playwright;
+  private Browser browser;
+  private BrowserContext browserContext;
+  private Page page;
+  private WaitOption waitOption;
+
+  /**
+   * Start the server and open a page without tracing or video.
+   *
+   * @throws IOException if the server can't be started
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    serverExecutor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/", exchange -> respond(exchange, "text/html", page()));
+    server.createContext("/asset/", exchange -> respond(exchange,
+        exchange.getRequestURI().getPath().endsWith(".css") ? "text/css" : "text/javascript", "/* asset */"));
+    server.createContext("/api/slow", exchange -> {
+      sleep(SLOW_API_MILLIS);
+      respond(exchange, "application/json", "{}");
+    });
+    server.setExecutor(serverExecutor);
+    server.start();
+    url = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+
+    playwright = PlaywrightResourceFactory.create(PlaywrightResource.PLAYWRIGHT);
+    browser = PlaywrightResourceFactory.create(PlaywrightResource.BROWSER);
+    browserContext = PlaywrightResourceFactory.create(PlaywrightResource.BROWSER_CONTEXT,
+        BrowserContextOption.builder().videoPolicy(VideoPolicy.OFF).build(),
+        TracingStartOption.builder().policy(TracingPolicy.OFF).build());
+    page = browserContext.newPage();
+    waitOption = WaitOption.builder().condition(condition).build();
+  }
+
+  /**
+   * Close the page and browser, stop the server.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    PlaywrightResourceFactory.close(browserContext);
+    PlaywrightResourceFactory.close(browser);
+    PlaywrightResourceFactory.close(playwright);
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public void navigateAndWait() {
+    page.navigate(url, new Page.NavigateOptions().setWaitUntil(WaitUntilState.COMMIT));
+    WaitUtils.waitForAllLoadStates(page, waitOption);
+  }
+
+  private static String page() {
+    StringBuilder html = new StringBuilder("<html><head>");
+    for (int i = 0; i < ASSETS; i++) {
+      html.append("<link rel=\"stylesheet\" href=\"/asset/").append(i).append(".css\">")
+          .append("<script src=\"/asset/").append(i).append(".js\"></script>");
+    }
+    return html.append("</head><body><h1>benchmark</h1>")
+        .append("<script>addEventListener('load', () => fetch('/api/slow'));</script>")
+        .append("</body></html>")
+        .toString();
+  }
+
+  private static void respond(HttpExchange exchange, String contentType, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", contentType);
+    exchange.getResponseHeaders().set("Cache-Control", "no-store");
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (OutputStream responseBody = exchange.getResponseBody()) {
+      responseBody.write(bytes);
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
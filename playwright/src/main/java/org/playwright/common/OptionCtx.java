@@ -1,34 +1,174 @@
 package org.playwright.common;
 
 import com.microsoft.playwright.PlaywrightException;
-import lombok.Getter;
 import org.playwright.core.options.IOption;
 
-import java.util.LinkedHashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
+/**
+ * Scoped option context. <br><br>
+ *
+ * <p>Options are layered in four scopes, from the least to the most specific: GLOBAL, SUITE, THREAD and TEST. GLOBAL
+ * and SUITE are shared by every thread, THREAD and TEST only belong to the calling thread. A lookup returns the value
+ * of the most specific scope holding the key, so parallel tests never observe each other's options.</p>
+ *
+ * <p>Each scope is an immutable map that is replaced on every write (copy-on-write). Reads never lock and
+ * {@link #getContext()} returns an immutable snapshot.</p>
+ */
 public class OptionCtx {
-  @Getter
-  private static final Map<OptionCtx.Key, IOption> context = new LinkedHashMap<>();
+  private static final Map<OptionCtx.Key, IOption> EMPTY = Collections.unmodifiableMap(new EnumMap<>(Key.class));
+  private static final AtomicReference<Map<OptionCtx.Key, IOption>> GLOBAL = new AtomicReference<>(EMPTY);
+  private static final AtomicReference<Map<OptionCtx.Key, IOption>> SUITE = new AtomicReference<>(EMPTY);
+  private static final ThreadLocal<Map<OptionCtx.Key, IOption>> THREAD = ThreadLocal.withInitial(() -> EMPTY);
+  private static final ThreadLocal<Map<OptionCtx.Key, IOption>> TEST = ThreadLocal.withInitial(() -> EMPTY);
 
   private OptionCtx() {
     throw new PlaywrightException("OptionContext should not be instantiated!");
   }
 
+  /**
+   * Immutable snapshot of the options visible to the calling thread, all scopes merged.
+   *
+   * @return option snapshot
+   */
+  public static Map<OptionCtx.Key, IOption> getContext() {
+    Map<OptionCtx.Key, IOption> merged = new EnumMap<>(Key.class);
+    merged.putAll(GLOBAL.get());
+    merged.putAll(SUITE.get());
+    merged.putAll(THREAD.get());
+    merged.putAll(TEST.get());
+    return Collections.unmodifiableMap(merged);
+  }
+
+  /**
+   * Immutable snapshot of a single scope as seen by the calling thread.
+   *
+   * @param scope scope to read
+   * @return option snapshot
+   */
+  public static Map<OptionCtx.Key, IOption> getContext(Scope scope) {
+    return switch (scope) {
+      case GLOBAL -> GLOBAL.get();
+      case SUITE -> SUITE.get();
+      case THREAD -> THREAD.get();
+      case TEST -> TEST.get();
+    };
+  }
+
+  /**
+   * Option visible to the calling thread, resolved from the most specific scope.
+   *
+   * @param key option key
+   * @return option or null
+   */
+  public static IOption get(OptionCtx.Key key) {
+    IOption value = TEST.get().get(key);
+    if (value == null) {
+      value = THREAD.get().get(key);
+    }
+    if (value == null) {
+      value = SUITE.get().get(key);
+    }
+    return value == null ? GLOBAL.get().get(key) : value;
+  }
+
+  /**
+   * Option visible to the calling thread, or the default when no scope holds the key.
+   *
+   * @param key          option key
+   * @param defaultValue supplier of the default option
+   * @param <T>          option type
+   * @return option
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends IOption<?>> T getOrDefault(OptionCtx.Key key, Supplier<T> defaultValue) {
+    IOption value = get(key);
+    return value == null ? defaultValue.get() : (T) value;
+  }
+
   public static void add(OptionCtx.Key key, IOption value) {
-    context.put(key, value);
+    add(Scope.TEST, key, value);
+  }
+
+  /**
+   * Add an option to the given scope.
+   *
+   * @param scope scope to write
+   * @param key   option key
+   * @param value option
+   */
+  public static void add(Scope scope, OptionCtx.Key key, IOption value) {
+    Map<OptionCtx.Key, IOption> update = new EnumMap<>(Key.class);
+    update.put(key, value);
+    addAll(scope, update);
   }
 
   public static void addAll(Map<OptionCtx.Key, IOption> optionContext) {
-    context.putAll(optionContext);
+    addAll(Scope.TEST, optionContext);
+  }
+
+  /**
+   * Add options to the given scope.
+   *
+   * @param scope         scope to write
+   * @param optionContext options to add
+   */
+  public static void addAll(Scope scope, Map<OptionCtx.Key, IOption> optionContext) {
+    switch (scope) {
+      case GLOBAL -> GLOBAL.updateAndGet(current -> merge(current, optionContext));
+      case SUITE -> SUITE.updateAndGet(current -> merge(current, optionContext));
+      case THREAD -> THREAD.set(merge(THREAD.get(), optionContext));
+      case TEST -> TEST.set(merge(TEST.get(), optionContext));
+      default -> throw new PlaywrightException("Unsupported scope: " + scope);
+    }
   }
 
   public static void clearTestContext() {
-    context.clear();
+    clear(Scope.TEST);
+  }
+
+  /**
+   * Remove every option of the given scope. THREAD and TEST scopes are only cleared for the calling thread.
+   *
+   * @param scope scope to clear
+   */
+  public static void clear(Scope scope) {
+    switch (scope) {
+      case GLOBAL -> GLOBAL.set(EMPTY);
+      case SUITE -> SUITE.set(EMPTY);
+      case THREAD -> THREAD.remove();
+      case TEST -> TEST.remove();
+      default -> throw new PlaywrightException("Unsupported scope: " + scope);
+    }
   }
 
   public static boolean exists(OptionCtx.Key key) {
-    return context.containsKey(key);
+    return get(key) != null;
+  }
+
+  private static Map<OptionCtx.Key, IOption> merge(Map<OptionCtx.Key, IOption> current,
+                                                   Map<OptionCtx.Key, IOption> update) {
+    Map<OptionCtx.Key, IOption> merged = new EnumMap<>(Key.class);
+    merged.putAll(current);
+    update.forEach((key, value) -> {
+      if (value == null) {
+        merged.remove(key);
+      } else {
+        merged.put(key, value);
+      }
+    });
+    return Collections.unmodifiableMap(merged);
+  }
+
+  public enum Scope {
+    GLOBAL,
+    SUITE,
+    THREAD,
+    TEST,
   }
 
   public enum Key {
@@ -38,5 +178,6 @@ public class OptionCtx {
     SCREENSHOT_OPTION,
     TRACE_START_OPTION,
     TRACE_STOP_OPTION,
+    WAIT_OPTION,
   }
 }
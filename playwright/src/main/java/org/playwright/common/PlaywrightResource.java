@@ -1,5 +1,5 @@
 package org.playwright.common;
 
 public enum PlaywrightResource {
-  PLAYWRIGHT, BROWSER, BROWSER_CONTEXT
+  PLAYWRIGHT, BROWSER, BROWSER_CONTEXT, BROWSER_POOL, BROWSER_CONTEXT_POOL, PLAYWRIGHT_DISPATCHER, PERSISTENT_CONTEXT
 }
@@ -0,0 +1,62 @@
+package org.playwright.common;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-flight requests of every page of the contexts created by the factory, tracked from the moment a page is created.
+ * A {@link WaitEngine} created after a navigation or action starts from these requests, so requests fired before the
+ * wait began are still waited for.
+ */
+public final class RequestTracker {
+  private static final Map<Page, Set<Request>> IN_FLIGHT = new ConcurrentHashMap<>();
+  private static final Set<BrowserContext> ATTACHED = Collections.synchronizedSet(
+      Collections.newSetFromMap(new WeakHashMap<>()));
+
+  private RequestTracker() {
+    throw new PlaywrightException("RequestTracker should not be instantiated!");
+  }
+
+  /**
+   * Track the requests of the current and future pages of a context. Attaching the same context again is a no-op, so
+   * reused (pooled) contexts are tracked once.
+   *
+   * @param context BrowserContext
+   */
+  public static void attach(BrowserContext context) {
+    if (ATTACHED.add(context)) {
+      context.pages().forEach(RequestTracker::track);
+      context.onPage(RequestTracker::track);
+    }
+  }
+
+  /**
+   * Requests of the page currently in flight. Empty when the page is not tracked.
+   *
+   * @param page page
+   * @return snapshot of the in-flight requests
+   */
+  static Set<Request> inFlight(Page page) {
+    Set<Request> inFlight = IN_FLIGHT.get(page);
+    return inFlight != null ? Set.copyOf(inFlight) : Set.of();
+  }
+
+  private static void track(Page page) {
+    Set<Request> inFlight = ConcurrentHashMap.newKeySet();
+    if (IN_FLIGHT.putIfAbsent(page, inFlight) != null) {
+      return;
+    }
+    page.onRequest(inFlight::add);
+    page.onRequestFinished(inFlight::remove);
+    page.onRequestFailed(inFlight::remove);
+    page.onClose(IN_FLIGHT::remove);
+  }
+}
@@ -1,5 +1,5 @@
 package org.playwright.common;
 
 public enum ResourceOptionArg {
-  NEW_PLAYWRIGHT_INSTANCE, NEW_BROWSER_INSTANCE
+  NEW_PLAYWRIGHT_INSTANCE, NEW_BROWSER_INSTANCE, ASYNC_CLOSE, TEST_FAILED
 }
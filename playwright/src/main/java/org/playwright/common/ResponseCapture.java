@@ -0,0 +1,171 @@
+package org.playwright.common;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Response;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Captures the responses of a page that match a predicate, until closed. <br><br>
+ *
+ * <p>Only the latest {@code capacity} responses are kept; older ones are dropped and counted. Bodies are not fetched
+ * while capturing, only when {@link CapturedResponse#text()} is called, and then only once. Chrome clears response
+ * bodies on navigation, so captures spanning a navigation should read bodies eagerly, as soon as each response arrives.
+ * The response listener is removed on {@link #close()}, so captures don't pile up on long-lived pages.</p>
+ *
+ * <pre>
+ * try (ResponseCapture capture = new ResponseCapture(page, r -&gt; r.url().contains("/api/"), 10)) {
+ *   page.click("#load");
+ *   WaitUtils.waitForAllLoadStates(page);
+ *   capture.last().map(CapturedResponse::text);
+ * }
+ * </pre>
+ */
+@Slf4j
+public final class ResponseCapture implements AutoCloseable {
+  private final Page page;
+  private final Predicate<Response> matcher;
+  @Getter
+  private final int capacity;
+  private final boolean eagerBody;
+  private final Deque<CapturedResponse> responses = new ArrayDeque<>();
+  private final LongAdder captured = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+  private final Consumer<Response> onResponse = this::capture;
+
+  /**
+   * Start capturing the responses of a page. Bodies are read lazily.
+   *
+   * @param page     page to listen on
+   * @param matcher  which responses to capture
+   * @param capacity max number of responses kept
+   */
+  public ResponseCapture(Page page, Predicate<Response> matcher, int capacity) {
+    this(page, matcher, capacity, false);
+  }
+
+  /**
+   * Start capturing the responses of a page.
+   *
+   * @param page      page to listen on
+   * @param matcher   which responses to capture
+   * @param capacity  max number of responses kept
+   * @param eagerBody read each body as soon as its response arrives, before a navigation can clear it
+   */
+  public ResponseCapture(Page page, Predicate<Response> matcher, int capacity, boolean eagerBody) {
+    if (capacity < 1) {
+      throw new PlaywrightException("ResponseCapture: capacity must be at least 1!");
+    }
+    this.page = page;
+    this.matcher = matcher;
+    this.capacity = capacity;
+    this.eagerBody = eagerBody;
+    page.onResponse(onResponse);
+  }
+
+  /**
+   * Captured responses still in the buffer, oldest first.
+   *
+   * @return snapshot of the captured responses
+   */
+  public List<CapturedResponse> getResponses() {
+    synchronized (responses) {
+      return new ArrayList<>(responses);
+    }
+  }
+
+  /**
+   * Latest captured response.
+   *
+   * @return latest response, if any
+   */
+  public Optional<CapturedResponse> last() {
+    synchronized (responses) {
+      return Optional.ofNullable(responses.peekLast());
+    }
+  }
+
+  public long getCaptured() {
+    return captured.sum();
+  }
+
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  /**
+   * Stop capturing. Captured responses remain available.
+   */
+  @Override
+  public void close() {
+    page.offResponse(onResponse);
+  }
+
+  private void capture(Response response) {
+    if (!matcher.test(response)) {
+      return;
+    }
+    captured.increment();
+    CapturedResponse capturedResponse = new CapturedResponse(response);
+    if (eagerBody) {
+      capturedResponse.prefetch();
+    }
+    synchronized (responses) {
+      if (responses.size() == capacity) {
+        responses.pollFirst();
+        dropped.increment();
+      }
+      responses.addLast(capturedResponse);
+    }
+  }
+
+  /**
+   * Response with a memoized body, fetched eagerly or on first use.
+   */
+  public static final class CapturedResponse {
+    @Getter
+    private final Response response;
+    @Getter
+    private final String url;
+    @Getter
+    private final int status;
+    private volatile String text;
+
+    CapturedResponse(Response response) {
+      this.response = response;
+      this.url = response.url();
+      this.status = response.status();
+    }
+
+    /**
+     * Body of the response, fetched on first call. It may no longer be available once the page navigated away.
+     *
+     * @return response body
+     */
+    public String text() {
+      if (text == null) {
+        text = response.text();
+      }
+      return text;
+    }
+
+    private void prefetch() {
+      try {
+        text();
+      } catch (PlaywrightException e) {
+        // e.g. a redirect, text() tries again and reports it to the caller
+        log.debug("ResponseCapture: body of {} is not available.", url, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,209 @@
+package org.playwright.common;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.LoadState;
+import lombok.extern.slf4j.Slf4j;
+import org.playwright.core.options.WaitCondition;
+import org.playwright.core.options.WaitOption;
+import org.playwright.metrics.Operation;
+import org.playwright.metrics.OperationTimer;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Event-driven page wait. <br><br>
+ *
+ * <p>In-flight requests are tracked through the page request events, skipping the url patterns and resource types
+ * configured in {@link WaitOption}, and the wait resolves as soon as its {@link WaitCondition} is met. Unlike
+ * {@link LoadState#NETWORKIDLE} this neither waits a fixed 500 ms nor hangs on long-polling or beacon requests.
+ * Listeners are removed on {@link #close()}. How long every wait took is recorded per condition.</p>
+ *
+ * <p>Requests of pages created through the factory are tracked by {@link RequestTracker} from page creation, and the
+ * engine starts from the requests already in flight, so it can be created after the navigation or action. Other pages
+ * are tracked from engine creation only; create the engine before the action, as below.</p>
+ *
+ * <pre>
+ * try (WaitEngine waitEngine = new WaitEngine(page, waitOption)) {
+ *   page.click("#submit");
+ *   waitEngine.await();
+ * }
+ * </pre>
+ */
+@Slf4j
+public final class WaitEngine implements AutoCloseable {
+  private static final int REPORTED_URLS = 5;
+  private static final Map<WaitCondition, LongSummaryStatistics> DURATIONS = new EnumMap<>(WaitCondition.class);
+
+  private final Page page;
+  private final WaitOption waitOption;
+  private final Pattern ignoreUrlPattern;
+  private final Set<Request> inFlight = ConcurrentHashMap.newKeySet();
+  private final Consumer<Request> onRequest = this::requestStarted;
+  private final Consumer<Request> onRequestDone = this::requestDone;
+  private volatile long lastActivityNanos = System.nanoTime();
+
+  /**
+   * Start tracking the requests of a page, including the requests already in flight on a page tracked by
+   * {@link RequestTracker}.
+   *
+   * @param page       page to wait on
+   * @param waitOption wait condition, timeouts and ignored requests
+   */
+  public WaitEngine(Page page, WaitOption waitOption) {
+    this.page = page;
+    this.waitOption = waitOption;
+    this.ignoreUrlPattern = waitOption.getIgnoreUrlPatterns().isEmpty()
+        ? null
+        : Pattern.compile(waitOption.getIgnoreUrlPatterns().stream()
+            .map(pattern -> "(?:" + pattern + ")")
+            .collect(Collectors.joining("|")));
+
+    // no events are dispatched until the next Playwright call, so nothing is missed between snapshot and listeners
+    RequestTracker.inFlight(page).forEach(this::requestStarted);
+    page.onRequest(onRequest);
+    page.onRequestFinished(onRequestDone);
+    page.onRequestFailed(onRequestDone);
+  }
+
+  /**
+   * Wait until the configured condition is met.
+   *
+   * @return how long the wait took
+   * @throws TimeoutError if the condition is not met within the configured timeout
+   */
+  public Duration await() {
+    WaitCondition condition = waitOption.getCondition();
+    long start = System.nanoTime();
+    long deadline = start + TimeUnit.MILLISECONDS.toNanos(waitOption.getTimeoutMillis());
+
+    try (OperationTimer ignored = OperationTimer.start(Operation.WAIT, condition.name())) {
+      if (condition == WaitCondition.DOMCONTENTLOADED || condition == WaitCondition.ALL) {
+        page.waitForLoadState(LoadState.DOMCONTENTLOADED, waitOption.forPlaywright().setTimeout(remainingMillis(deadline)));
+      }
+      if (condition == WaitCondition.LOAD || condition == WaitCondition.ALL) {
+        page.waitForLoadState(LoadState.LOAD, waitOption.forPlaywright().setTimeout(remainingMillis(deadline)));
+      }
+      if (condition.waitsForNetwork()) {
+        awaitNetworkQuiet(deadline);
+      }
+    } catch (RuntimeException e) {
+      record(condition, start);
+      throw e;
+    }
+    return record(condition, start);
+  }
+
+  /**
+   * Number of tracked requests currently in flight.
+   *
+   * @return request count
+   */
+  public int getInFlight() {
+    return inFlight.size();
+  }
+
+  /**
+   * Stop tracking the requests of the page.
+   */
+  @Override
+  public void close() {
+    page.offRequest(onRequest);
+    page.offRequestFinished(onRequestDone);
+    page.offRequestFailed(onRequestDone);
+    inFlight.clear();
+  }
+
+  /**
+   * Duration statistics, in milliseconds, of all waits for the given condition.
+   *
+   * @param condition wait condition
+   * @return copy of the statistics
+   */
+  public static LongSummaryStatistics getDurations(WaitCondition condition) {
+    LongSummaryStatistics copy = new LongSummaryStatistics();
+    synchronized (DURATIONS) {
+      LongSummaryStatistics durations = DURATIONS.get(condition);
+      if (durations != null) {
+        copy.combine(durations);
+      }
+    }
+    return copy;
+  }
+
+  /**
+   * Forget all recorded wait durations.
+   */
+  public static void resetDurations() {
+    synchronized (DURATIONS) {
+      DURATIONS.clear();
+    }
+  }
+
+  private void awaitNetworkQuiet(long deadline) {
+    long quietNanos = TimeUnit.MILLISECONDS.toNanos(waitOption.getQuietMillis());
+
+    while (true) {
+      long now = System.nanoTime();
+      long quietFor = now - lastActivityNanos;
+      if (inFlight.isEmpty() && quietFor >= quietNanos) {
+        return;
+      }
+      if (now >= deadline) {
+        throw new TimeoutError(String.format("WaitEngine: network not quiet after %d ms, %d request(s) in flight: %s",
+            waitOption.getTimeoutMillis(), inFlight.size(), inFlight.stream()
+                .limit(REPORTED_URLS)
+                .map(Request::url)
+                .collect(Collectors.joining(", "))));
+      }
+
+      long sliceMillis = inFlight.isEmpty()
+          ? Math.min(waitOption.getPollMillis(), TimeUnit.NANOSECONDS.toMillis(quietNanos - quietFor) + 1)
+          : waitOption.getPollMillis();
+      // page events are dispatched while Playwright waits, so this also processes request events
+      page.waitForTimeout(Math.max(1, Math.min(sliceMillis, remainingMillis(deadline))));
+    }
+  }
+
+  private void requestStarted(Request request) {
+    if (isIgnored(request)) {
+      return;
+    }
+    inFlight.add(request);
+    lastActivityNanos = System.nanoTime();
+  }
+
+  private void requestDone(Request request) {
+    if (inFlight.remove(request)) {
+      lastActivityNanos = System.nanoTime();
+    }
+  }
+
+  private boolean isIgnored(Request request) {
+    return waitOption.getIgnoreResourceTypes().contains(request.resourceType())
+        || ignoreUrlPattern != null && ignoreUrlPattern.matcher(request.url()).find();
+  }
+
+  private static long remainingMillis(long deadline) {
+    return Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+  }
+
+  private static Duration record(WaitCondition condition, long start) {
+    Duration took = Duration.ofNanos(System.nanoTime() - start);
+    synchronized (DURATIONS) {
+      DURATIONS.computeIfAbsent(condition, c -> new LongSummaryStatistics()).accept(took.toMillis());
+    }
+    log.debug("WaitEngine: waiting for {} took {} ms.", condition, took.toMillis());
+    return took;
+  }
+}
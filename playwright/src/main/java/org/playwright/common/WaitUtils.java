@@ -2,44 +2,59 @@ package org.playwright.common;
 
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Response;
-import com.microsoft.playwright.options.LoadState;
 import lombok.extern.slf4j.Slf4j;
+import org.playwright.core.options.WaitOption;
 import org.playwright.failsafe.FailsafeFallback;
 import org.playwright.failsafe.FailsafeRetry;
 
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Utility class for common wait functions.
  */
 @Slf4j
 public class WaitUtils {
+  private static final int NAVIGATION_CAPTURE_CAPACITY = 4;
 
   /**
    * Wait for all page load states: onLoad, domContentLoad, and network. This function is wrapped
    * with Failsafe, so it will never halt execution. If there is an exception while waiting for
    * load states, it will be logged and execution will continue.
    *
+   * <p>The {@link WaitOption} of the option context is used, if any. By default this waits for:</p>
+   *
    * <pre>
-   * "load" - wait for the load event to be fired.
    * "domcontentloaded" - wait for the DOMContentLoaded event to be fired.
-   * "networkidle" - wait until there are no network connections for at least 500 ms
+   * "load" - wait for the load event to be fired.
+   * network quiet - wait until no tracked request has been in flight for 250 ms, see {@link WaitEngine}
    * </pre>
    *
    * @param page Page object
    */
   public static void waitForAllLoadStates(Page page) {
+    waitForAllLoadStates(page, OptionCtx.getOrDefault(OptionCtx.Key.WAIT_OPTION, () -> WaitOption.builder().build()));
+  }
+
+  /**
+   * Wait for the condition of the given options, see {@link #waitForAllLoadStates(Page)}.
+   *
+   * @param page       Page object
+   * @param waitOption wait condition, timeouts and ignored requests
+   */
+  public static void waitForAllLoadStates(Page page, WaitOption waitOption) {
     FailsafeFallback.withLog(() -> {
-      page.waitForLoadState(LoadState.LOAD);
-      page.waitForLoadState(LoadState.DOMCONTENTLOADED);
-      page.waitForLoadState(LoadState.NETWORKIDLE);
+      try (WaitEngine waitEngine = new WaitEngine(page, waitOption)) {
+        waitEngine.await();
+      }
     }, "Error during waitForLoadState. Absorbing exception.");
   }
 
   /**
    * Get response text from navigation. Because Chrome clears network activity on navigation,
    * page.waitForResponse may sometimes throw exception in edge cases. This helper method tries to capture
-   * the response in more than one way without throwing exception.
+   * the response in more than one way without throwing exception. Matching responses are captured with a
+   * {@link ResponseCapture} for the duration of this call only, reading their bodies as they arrive.
    *
    * @param page          page object
    * @param urlToNavigate url to navigate
@@ -47,23 +62,28 @@ public class WaitUtils {
    * @return response body
    */
   public static String waitForResponseOnNavigation(Page page, String urlToNavigate, String urlToWaitFor) {
-    AtomicReference<String> responseText = new AtomicReference<>();
+    Predicate<Response> matcher = r -> r.url().contains(urlToWaitFor);
 
-    page.onResponse(r -> {
-      if (r.url().contains(urlToWaitFor)) {
-        responseText.set(r.text());
-      }
-    });
+    try (ResponseCapture capture = new ResponseCapture(page, matcher, NAVIGATION_CAPTURE_CAPACITY, true)) {
+      Response response = page.waitForResponse(matcher,
+          () -> FailsafeRetry.withDefault(() -> page.navigate(urlToNavigate)));
+      WaitUtils.waitForAllLoadStates(page);
 
-    Response response = page.waitForResponse(r -> r.url().contains(urlToWaitFor),
-        () -> FailsafeRetry.withDefault(() -> page.navigate(urlToNavigate)));
-    WaitUtils.waitForAllLoadStates(page);
+      try {
+        return response.text();
+      } catch (Exception e) {
+        log.warn("Absorbing potential expected exception in waitForResponseOnNavigation function.");
+      }
 
-    try {
-      responseText.set(response.text());
-    } catch (Exception e) {
-      log.warn("Absorbing potential expected exception in waitForResponseOnNavigation function.");
+      List<ResponseCapture.CapturedResponse> captured = capture.getResponses();
+      for (int i = captured.size() - 1; i >= 0; i--) {
+        try {
+          return captured.get(i).text();
+        } catch (Exception e) {
+          log.debug("Response body of {} is not available.", captured.get(i).getUrl());
+        }
+      }
+      return null;
     }
-    return responseText.get();
   }
 }
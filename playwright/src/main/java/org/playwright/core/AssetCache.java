@@ -0,0 +1,415 @@
+package org.playwright.core;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.playwright.core.options.AssetCacheOption;
+import org.playwright.jackson.DataFormat;
+import org.playwright.jackson.JacksonUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed disk cache of static assets, served to BrowserContexts through {@code context.route}. <br><br>
+ *
+ * <p>Bodies are stored once per SHA-256 under {@code blobs/}, and an index mapping urls to blobs and response headers
+ * is persisted as {@code index.json}, so the cache survives across runs. Freshness follows {@code Cache-Control:
+ * max-age}; stale assets with an {@code ETag} or {@code Last-Modified} validator are revalidated with a conditional
+ * request and served from disk on {@code 304}. When the total size exceeds {@link AssetCacheOption#getMaxBytes()} the
+ * least recently used assets are evicted.</p>
+ *
+ * <p>Route handlers run on the thread owning the context, so all Playwright calls stay on that thread; only the index
+ * is shared and it is guarded by this instance. Concurrent JVMs may share a directory: blobs are immutable and the index
+ * is replaced atomically, the last writer winning.</p>
+ */
+@Slf4j
+public final class AssetCache {
+  private static final Map<Path, AssetCache> CACHES = new ConcurrentHashMap<>();
+  private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+  private static final Set<String> DROPPED_HEADERS = Set.of("content-encoding", "content-length", "transfer-encoding",
+      "connection", "keep-alive", "set-cookie");
+  private static final int NOT_MODIFIED = 304;
+  private static final int OK = 200;
+
+  @Getter
+  private final AssetCacheOption option;
+  private final Path blobDir;
+  private final Path indexFile;
+  private final LinkedHashMap<String, Asset> index = new LinkedHashMap<>(64, 0.75f, true);
+  private final Map<String, Integer> blobRefs = new HashMap<>();
+  private final Set<BrowserContext> attached = Collections.synchronizedSet(
+      Collections.newSetFromMap(new WeakHashMap<>()));
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder revalidated = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private long totalBytes;
+  private boolean dirty;
+
+  AssetCache(AssetCacheOption option) {
+    this.option = option;
+    this.blobDir = option.getDirectory().resolve("blobs");
+    this.indexFile = option.getDirectory().resolve("index.json");
+    load();
+  }
+
+  /**
+   * Shared cache for the directory of the given options. The first options seen for a directory win.
+   *
+   * @param option cache options
+   * @return AssetCache
+   */
+  public static AssetCache forOption(AssetCacheOption option) {
+    return CACHES.computeIfAbsent(option.getDirectory().toAbsolutePath().normalize(), dir -> {
+      AssetCache assetCache = new AssetCache(option);
+      Runtime.getRuntime().addShutdownHook(new Thread(assetCache::flush, "asset-cache-flush"));
+      return assetCache;
+    });
+  }
+
+  /**
+   * Route the static assets of a context through this cache. Attaching the same context again is a no-op, so reused
+   * (pooled) contexts are routed once.
+   *
+   * @param context BrowserContext
+   */
+  public void attach(BrowserContext context) {
+    if (attached.add(context)) {
+      context.route(option.getUrlGlob(), this::handle);
+      context.onClose(closed -> flush());
+    }
+  }
+
+  /**
+   * Persist the index, if it changed.
+   */
+  public void flush() {
+    List<Asset> assets;
+    synchronized (this) {
+      if (!dirty) {
+        return;
+      }
+      assets = new ArrayList<>(index.values());
+      dirty = false;
+    }
+
+    try {
+      Files.createDirectories(indexFile.getParent());
+      Path tmp = Files.createTempFile(indexFile.getParent(), "index", ".tmp");
+      try (OutputStream outputStream = Files.newOutputStream(tmp)) {
+        JacksonUtils.serialize(assets, DataFormat.JSON_COMPACT, outputStream);
+      }
+      Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      log.warn("AssetCache: unable to write index {}.", indexFile, e);
+    }
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getRevalidated() {
+    return revalidated.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * Share of requests served from disk, fresh or revalidated.
+   *
+   * @return hit rate between 0 and 1
+   */
+  public double getHitRate() {
+    long served = getHits() + getRevalidated();
+    long total = served + getMisses();
+    return total == 0 ? 0 : (double) served / total;
+  }
+
+  /**
+   * Number of cached urls.
+   *
+   * @return url count
+   */
+  public synchronized int size() {
+    return index.size();
+  }
+
+  /**
+   * Total size of the cached bodies, in bytes.
+   *
+   * @return size in bytes
+   */
+  public synchronized long getTotalBytes() {
+    return totalBytes;
+  }
+
+  private void handle(Route route) {
+    Request request = route.request();
+    if (!"GET".equals(request.method()) || !option.getResourceTypes().contains(request.resourceType())) {
+      route.fallback();
+      return;
+    }
+
+    String url = request.url();
+    Asset asset = lookup(url);
+    byte[] body = asset != null ? read(asset) : null;
+    if (body != null && asset.isFresh(System.currentTimeMillis())) {
+      hits.increment();
+      fulfill(route, asset, body);
+      return;
+    }
+
+    Map<String, String> headers = new HashMap<>(request.headers());
+    if (body != null) {
+      asset.validators().forEach(headers::put);
+    }
+    APIResponse response;
+    try {
+      response = route.fetch(new Route.FetchOptions().setHeaders(headers));
+    } catch (PlaywrightException e) {
+      log.debug("AssetCache: unable to fetch {}, letting the browser load it.", url, e);
+      route.resume();
+      return;
+    }
+    if (body != null && response.status() == NOT_MODIFIED) {
+      revalidated.increment();
+      fulfill(route, revalidate(url, response.headers()), body);
+      return;
+    }
+
+    misses.increment();
+    store(url, response.status(), response.headers(), response.body());
+    route.fulfill(new Route.FulfillOptions().setResponse(response));
+  }
+
+  private static void fulfill(Route route, Asset asset, byte[] body) {
+    route.fulfill(new Route.FulfillOptions()
+        .setStatus(OK)
+        .setHeaders(asset.headers())
+        .setBodyBytes(body));
+  }
+
+  /**
+   * Cached asset of a url, marked as most recently used.
+   */
+  synchronized Asset lookup(String url) {
+    return index.get(url);
+  }
+
+  /**
+   * Cache a response, if its status and headers allow it.
+   *
+   * @return the cached asset, or null when the response is not cacheable
+   */
+  Asset store(String url, int status, Map<String, String> headers, byte[] body) {
+    long now = System.currentTimeMillis();
+    long expiresAt = expiresAt(headers, now);
+    boolean hasValidator = headers.containsKey("etag") || headers.containsKey("last-modified");
+    if (status != OK || expiresAt < 0 || expiresAt <= now && !hasValidator) {
+      return null;
+    }
+
+    String sha256 = sha256(body);
+    Path blob = blobPath(sha256);
+    try {
+      if (!Files.exists(blob)) {
+        Files.createDirectories(blob.getParent());
+        Path tmp = Files.createTempFile(blob.getParent(), sha256, ".tmp");
+        Files.write(tmp, body);
+        Files.move(tmp, blob, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+    } catch (IOException e) {
+      log.warn("AssetCache: unable to store {}.", url, e);
+      return null;
+    }
+
+    Map<String, String> kept = new HashMap<>();
+    headers.forEach((name, value) -> {
+      if (!DROPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+        kept.put(name.toLowerCase(Locale.ROOT), value);
+      }
+    });
+    Asset asset = new Asset(url, sha256, body.length, kept, expiresAt);
+    synchronized (this) {
+      put(asset);
+      evict();
+    }
+    return asset;
+  }
+
+  /**
+   * Refresh the freshness of a cached asset after a {@code 304} response.
+   */
+  synchronized Asset revalidate(String url, Map<String, String> headers) {
+    Asset asset = index.get(url);
+    if (asset == null) {
+      throw new PlaywrightException("AssetCache: " + url + " is not cached.");
+    }
+    Asset refreshed = new Asset(url, asset.sha256(), asset.size(), asset.headers(),
+        Math.max(0, expiresAt(headers, System.currentTimeMillis())));
+    index.put(url, refreshed);
+    dirty = true;
+    return refreshed;
+  }
+
+  /**
+   * Body of a cached asset, or null (and the asset is forgotten) when its blob is gone.
+   */
+  byte[] read(Asset asset) {
+    try {
+      return Files.readAllBytes(blobPath(asset.sha256()));
+    } catch (IOException e) {
+      log.debug("AssetCache: blob of {} is missing.", asset.url(), e);
+      synchronized (this) {
+        if (index.get(asset.url()) == asset) {
+          remove(asset);
+        }
+      }
+      return null;
+    }
+  }
+
+  private void put(Asset asset) {
+    // reference the new blob first: a refetched asset with an unchanged body shares the blob of the previous one
+    if (blobRefs.merge(asset.sha256(), 1, Integer::sum) == 1) {
+      totalBytes += asset.size();
+    }
+    Asset previous = index.put(asset.url(), asset);
+    if (previous != null) {
+      release(previous);
+    }
+    dirty = true;
+  }
+
+  private void remove(Asset asset) {
+    index.remove(asset.url());
+    release(asset);
+    dirty = true;
+  }
+
+  private void release(Asset asset) {
+    if (blobRefs.merge(asset.sha256(), -1, Integer::sum) > 0) {
+      return;
+    }
+    blobRefs.remove(asset.sha256());
+    totalBytes -= asset.size();
+    try {
+      Files.deleteIfExists(blobPath(asset.sha256()));
+    } catch (IOException e) {
+      log.debug("AssetCache: unable to delete blob of {}.", asset.url(), e);
+    }
+  }
+
+  private void evict() {
+    Iterator<Asset> eldest = index.values().iterator();
+    while (totalBytes > option.getMaxBytes() && eldest.hasNext()) {
+      Asset asset = eldest.next();
+      eldest.remove();
+      release(asset);
+      evictions.increment();
+      dirty = true;
+    }
+  }
+
+  private void load() {
+    if (!Files.exists(indexFile)) {
+      return;
+    }
+    try {
+      List<Asset> assets = JacksonUtils.readerFor(new TypeReference<List<Asset>>() {
+      }).readValue(indexFile.toFile());
+      synchronized (this) {
+        assets.stream()
+            .filter(asset -> Files.exists(blobPath(asset.sha256())))
+            .forEach(this::put);
+        evict();
+        dirty = false;
+      }
+      log.debug("AssetCache: loaded {} assets from {}.", index.size(), indexFile);
+    } catch (IOException e) {
+      log.warn("AssetCache: unable to read index {}, starting empty.", indexFile, e);
+    }
+  }
+
+  private Path blobPath(String sha256) {
+    return blobDir.resolve(sha256.substring(0, 2)).resolve(sha256);
+  }
+
+  /**
+   * Expiry of a response per its Cache-Control header: -1 when it must not be stored, {@code now} when it must be
+   * revalidated before use.
+   */
+  static long expiresAt(Map<String, String> headers, long now) {
+    String cacheControl = headers.getOrDefault("cache-control", "").toLowerCase(Locale.ROOT);
+    if (cacheControl.contains("no-store")) {
+      return -1;
+    }
+    Matcher maxAge = MAX_AGE.matcher(cacheControl);
+    if (cacheControl.contains("no-cache") || !maxAge.find()) {
+      return now;
+    }
+    return now + Long.parseLong(maxAge.group(1)) * 1000;
+  }
+
+  private static String sha256(byte[] body) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+    } catch (NoSuchAlgorithmException e) {
+      throw new PlaywrightException("SHA-256 is not available!", e);
+    }
+  }
+
+  /**
+   * Index entry: url, content hash of the body, and the response headers replayed when serving it.
+   */
+  record Asset(String url, String sha256, long size, Map<String, String> headers, long expiresAt) {
+
+    boolean isFresh(long now) {
+      return expiresAt > now;
+    }
+
+    Map<String, String> validators() {
+      Map<String, String> validators = new HashMap<>();
+      if (headers.containsKey("etag")) {
+        validators.put("if-none-match", headers.get("etag"));
+      }
+      if (headers.containsKey("last-modified")) {
+        validators.put("if-modified-since", headers.get("last-modified"));
+      }
+      return validators;
+    }
+  }
+}
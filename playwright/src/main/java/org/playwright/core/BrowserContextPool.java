@@ -0,0 +1,226 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import lombok.extern.slf4j.Slf4j;
+import org.playwright.core.options.BrowserContextOption;
+import org.playwright.core.options.BrowserContextPoolOption;
+import org.playwright.jackson.JacksonUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of pre-created BrowserContexts keyed by Browser and {@link BrowserContextOption}. <br><br>
+ *
+ * <p>Contexts are created ahead of time, so acquiring one does not wait for {@code newContext}. Released contexts are
+ * closed by default. Only with {@link BrowserContextPoolOption#isReuseReleasedContexts()} enabled (off by default)
+ * are they reset and handed out again to the next caller asking for the same browser and options. A context whose
+ * local storage survives the reset is discarded rather than reused; see the option for what a reset can't undo.</p>
+ *
+ * <p>Playwright objects are not thread safe. {@link #refill(Browser)} must therefore only run on the thread that
+ * currently has the browser. The {@link BrowserPool} refills in the background while a returned browser is not yet
+ * available to other threads. Without a BrowserPool, a release hands the browser to a {@link ResourceTeardown} thread
+ * for the refill. The releasing thread returns right away, and {@link #acquire(Browser, BrowserContextOption)} and
+ * the next factory call take the browser back, waiting for the refill if it is still running. The refill therefore
+ * only overlaps with work done between tests that doesn't use Playwright; a test that acquires its context straight
+ * after the previous release gains nothing.</p>
+ */
+@Slf4j
+public class BrowserContextPool implements AutoCloseable {
+  private final BrowserContextPoolOption poolOption;
+  private final Map<PoolKey, ConcurrentLinkedDeque<BrowserContext>> idle = new ConcurrentHashMap<>();
+  private final Map<BrowserContext, PoolKey> leased = new ConcurrentHashMap<>();
+  private final Set<BrowserContext> closedContexts = ConcurrentHashMap.newKeySet();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder discarded = new LongAdder();
+  private final LongAdder refilled = new LongAdder();
+  private volatile boolean refilledByBrowserPool;
+
+  public BrowserContextPool(BrowserContextPoolOption poolOption) {
+    this.poolOption = poolOption;
+  }
+
+  /**
+   * Take a ready context for the given browser and options, or create one when none is available.
+   *
+   * @param browser Browser the context belongs to
+   * @param option  resolved BrowserContextOption
+   * @return BrowserContext leased to the caller until it is released
+   */
+  public BrowserContext acquire(Browser browser, BrowserContextOption option) {
+    ResourceTeardown.awaitHandoff();
+    PoolKey key = new PoolKey(browser, option);
+    BrowserContext context = poll(key);
+
+    if (context == null) {
+      misses.increment();
+      context = newContext(key);
+    } else {
+      hits.increment();
+    }
+    leased.put(context, key);
+    return context;
+  }
+
+  /**
+   * Close a leased context, or reset it and keep it for reuse when enabled. Contexts that can't be reset cleanly are
+   * closed.
+   *
+   * @param context context previously returned by {@link #acquire(Browser, BrowserContextOption)}
+   */
+  public void release(BrowserContext context) {
+    PoolKey key = leased.remove(context);
+    if (key == null) {
+      throw new PlaywrightException("BrowserContext was not acquired from this pool.");
+    }
+
+    ConcurrentLinkedDeque<BrowserContext> contexts = idle.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+    if (poolOption.isReuseReleasedContexts() && contexts.size() < poolOption.getMaxIdleContexts() && reset(context)) {
+      contexts.offerFirst(context);
+    } else {
+      discard(context);
+    }
+    if (!refilledByBrowserPool) {
+      ResourceTeardown.submit(() -> refill(key.browser()));
+    }
+  }
+
+  /**
+   * Top up the ready contexts of every option combination already used with this browser. Must be called on the
+   * thread that currently owns the browser.
+   *
+   * @param browser Browser to create contexts for
+   */
+  public void refill(Browser browser) {
+    idle.forEach((key, contexts) -> {
+      if (key.browser() != browser || !browser.isConnected()) {
+        return;
+      }
+      contexts.removeIf(closedContexts::remove);
+      while (contexts.size() < poolOption.getReadyContexts()) {
+        contexts.offerLast(newContext(key));
+        refilled.increment();
+      }
+    });
+  }
+
+  /**
+   * Whether {@link #refill(Browser)} is driven by the {@link BrowserPool}. Otherwise contexts are topped up after each
+   * release by a {@link ResourceTeardown} thread, handing the browser back to the releasing thread afterwards.
+   *
+   * @param refilledByBrowserPool true once linked to a BrowserPool
+   */
+  public void setRefilledByBrowserPool(boolean refilledByBrowserPool) {
+    this.refilledByBrowserPool = refilledByBrowserPool;
+  }
+
+  public boolean isLeased(BrowserContext context) {
+    return leased.containsKey(context);
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getDiscarded() {
+    return discarded.sum();
+  }
+
+  public long getRefilled() {
+    return refilled.sum();
+  }
+
+  /**
+   * Close every idle context. Leased contexts are closed when they are released.
+   */
+  @Override
+  public void close() {
+    idle.values().forEach(contexts -> {
+      BrowserContext context = contexts.pollFirst();
+      while (context != null) {
+        discard(context);
+        context = contexts.pollFirst();
+      }
+    });
+    idle.clear();
+  }
+
+  private BrowserContext poll(PoolKey key) {
+    if (!key.browser().isConnected()) {
+      idle.remove(key);
+      return null;
+    }
+
+    ConcurrentLinkedDeque<BrowserContext> contexts = idle.get(key);
+    if (contexts == null) {
+      idle.putIfAbsent(key, new ConcurrentLinkedDeque<>());
+      return null;
+    }
+
+    BrowserContext context = contexts.pollFirst();
+    while (context != null && closedContexts.remove(context)) {
+      context = contexts.pollFirst();
+    }
+    return context;
+  }
+
+  private BrowserContext newContext(PoolKey key) {
+    BrowserContext context = key.browser().newContext(key.option().forPlaywright());
+    context.onClose(closedContexts::add);
+    return context;
+  }
+
+  private boolean reset(BrowserContext context) {
+    if (closedContexts.remove(context)) {
+      return false;
+    }
+
+    try {
+      for (Page page : List.copyOf(context.pages())) {
+        page.close();
+      }
+      context.clearCookies();
+      context.clearPermissions();
+      context.setExtraHTTPHeaders(Map.of());
+      context.setOffline(false);
+      context.setGeolocation(null);
+      return !hasLocalStorage(context.storageState());
+    } catch (PlaywrightException e) {
+      log.warn("BrowserContextPool: unable to reset BrowserContext. It will be discarded.", e);
+      return false;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static boolean hasLocalStorage(String storageState) {
+    Object origins = JacksonUtils.deserializeToMap(storageState, Object.class).get("origins");
+    return origins instanceof List<?> list && list.stream()
+        .map(origin -> ((Map<String, Object>) origin).get("localStorage"))
+        .anyMatch(localStorage -> localStorage instanceof List<?> entries && !entries.isEmpty());
+  }
+
+  private void discard(BrowserContext context) {
+    discarded.increment();
+    try {
+      context.close();
+    } catch (PlaywrightException e) {
+      log.warn("BrowserContextPool: error while closing BrowserContext. Absorbing exception.", e);
+    }
+    closedContexts.remove(context);
+  }
+
+  private record PoolKey(Browser browser, BrowserContextOption option) {
+  }
+}
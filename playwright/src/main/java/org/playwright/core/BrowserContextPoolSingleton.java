@@ -0,0 +1,19 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.PlaywrightException;
+
+public class BrowserContextPoolSingleton {
+  private static volatile BrowserContextPool browserContextPool;
+
+  private BrowserContextPoolSingleton() {
+    throw new PlaywrightException("BrowserContextPoolSingleton should not be instantiated!");
+  }
+
+  public static BrowserContextPool getInstance() {
+    return browserContextPool;
+  }
+
+  public static void setInstance(BrowserContextPool browserContextPool) {
+    BrowserContextPoolSingleton.browserContextPool = browserContextPool;
+  }
+}
@@ -0,0 +1,234 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.playwright.core.options.BrowserFleetOption;
+
+import java.io.IOException;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Local Chromium browsers shared by every JVM of the host, e.g. the forks of a Surefire run, so that each fork connects
+ * to a running browser instead of launching its own. <br><br>
+ *
+ * <p>Each browser is started with {@code --remote-debugging-port=0} and its DevTools endpoint is registered as
+ * {@code browser-<n>.endpoint} in the fleet directory. A Browser resource created with
+ * {@link org.playwright.core.options.BrowserLaunchOption#getFleet()} claims the first endpoint whose lock file it can
+ * lock and connects over CDP; the endpoint is free again once that Browser disconnects, or its JVM dies.</p>
+ *
+ * <p>Start the fleet before the forks, either from a build step with {@code java -cp <classpath>
+ * org.playwright.core.BrowserFleet [size] [directory]}, which runs until it is killed, or programmatically with
+ * {@link #start(BrowserFleetOption)}.</p>
+ */
+@Slf4j
+public final class BrowserFleet implements AutoCloseable {
+  private static final String ENDPOINT_SUFFIX = ".endpoint";
+  private static final String DEVTOOLS_ACTIVE_PORT = "DevToolsActivePort";
+  private static final long POLL_MILLIS = 50;
+
+  @Getter
+  private final BrowserFleetOption option;
+  private final List<Process> processes = new ArrayList<>();
+  private final List<String> endpoints = new ArrayList<>();
+
+  private BrowserFleet(BrowserFleetOption option) {
+    this.option = option;
+  }
+
+  /**
+   * Start the browsers of a fleet and register their endpoints. The browsers start in parallel.
+   *
+   * @param option fleet options
+   * @return running fleet, close it to stop the browsers
+   * @throws PlaywrightException when a browser does not start
+   */
+  public static BrowserFleet start(BrowserFleetOption option) {
+    BrowserFleet fleet = new BrowserFleet(option);
+    try {
+      Files.createDirectories(option.getDirectory());
+      Path executable = option.getExecutablePath() != null ? option.getExecutablePath() : installedChromium();
+      for (int i = 0; i < option.getSize(); i++) {
+        fleet.processes.add(fleet.startBrowser(executable, i));
+      }
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(option.getStartTimeoutMillis());
+      for (int i = 0; i < option.getSize(); i++) {
+        fleet.register(i, fleet.awaitEndpoint(i, deadline));
+      }
+    } catch (IOException e) {
+      fleet.close();
+      throw new PlaywrightException("BrowserFleet: unable to start browsers in " + option.getDirectory(), e);
+    } catch (RuntimeException e) {
+      fleet.close();
+      throw e;
+    }
+    log.info("BrowserFleet: {} browsers registered in {}.", option.getSize(), option.getDirectory());
+    return fleet;
+  }
+
+  public List<String> getEndpoints() {
+    return Collections.unmodifiableList(endpoints);
+  }
+
+  /**
+   * Unregister the endpoints and stop the browsers. Connected clients are disconnected.
+   */
+  @Override
+  public void close() {
+    for (int i = 0; i < endpoints.size(); i++) {
+      try {
+        Files.deleteIfExists(option.getDirectory().resolve(endpointFile(i)));
+      } catch (IOException e) {
+        log.debug("BrowserFleet: unable to unregister browser {}.", i, e);
+      }
+    }
+    endpoints.clear();
+
+    processes.forEach(Process::destroy);
+    for (Process process : processes) {
+      try {
+        if (!process.waitFor(5, TimeUnit.SECONDS)) {
+          process.destroyForcibly();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        process.destroyForcibly();
+      }
+    }
+    processes.clear();
+  }
+
+  /**
+   * Claim a free endpoint of the fleet registered in the given directory.
+   *
+   * @param directory fleet directory
+   * @return endpoint, to be released once disconnected
+   * @throws PlaywrightException when no endpoint is registered or all are in use
+   */
+  static Lease claim(Path directory) {
+    List<Path> endpointFiles;
+    try (Stream<Path> files = Files.list(directory)) {
+      endpointFiles = files.filter(file -> file.getFileName().toString().endsWith(ENDPOINT_SUFFIX)).sorted().toList();
+    } catch (IOException e) {
+      throw new PlaywrightException("BrowserFleet: no fleet is running in " + directory, e);
+    }
+
+    for (Path endpointFile : endpointFiles) {
+      String name = endpointFile.getFileName().toString();
+      try {
+        FileLock lock = FileLocks.tryLock(directory.resolve(name.replace(ENDPOINT_SUFFIX, ".lock")));
+        if (lock != null) {
+          try {
+            return new Lease(Files.readString(endpointFile).trim(), lock);
+          } catch (NoSuchFileException e) {
+            // unregistered by a fleet shutting down
+            FileLocks.release(lock);
+          }
+        }
+      } catch (IOException e) {
+        throw new PlaywrightException("BrowserFleet: unable to claim " + endpointFile, e);
+      }
+    }
+    throw new PlaywrightException("BrowserFleet: all " + endpointFiles.size() + " browsers registered in " + directory
+        + " are in use.");
+  }
+
+  private Process startBrowser(Path executable, int index) throws IOException {
+    Path userDataDir = Files.createDirectories(option.getDirectory().resolve("browser-" + index));
+    // written by the browser once its endpoint is open, a stale one would point to a previous run
+    Files.deleteIfExists(userDataDir.resolve(DEVTOOLS_ACTIVE_PORT));
+
+    List<String> command = new ArrayList<>(List.of(executable.toString(), "--remote-debugging-port=0",
+        "--user-data-dir=" + userDataDir.toAbsolutePath(), "--no-first-run", "--no-default-browser-check"));
+    command.addAll(option.getArgs());
+    command.add("about:blank");
+    return new ProcessBuilder(command)
+        .redirectErrorStream(true)
+        .redirectOutput(option.getDirectory().resolve("browser-" + index + ".log").toFile())
+        .start();
+  }
+
+  private String awaitEndpoint(int index, long deadline) throws IOException {
+    Path activePort = option.getDirectory().resolve("browser-" + index).resolve(DEVTOOLS_ACTIVE_PORT);
+    Process process = processes.get(index);
+    while (System.nanoTime() < deadline) {
+      if (!process.isAlive()) {
+        throw new PlaywrightException("BrowserFleet: browser " + index + " exited with code " + process.exitValue()
+            + ", see browser-" + index + ".log");
+      }
+      List<String> lines = Files.exists(activePort) ? Files.readAllLines(activePort) : List.of();
+      if (lines.size() >= 2) {
+        return "ws://127.0.0.1:" + lines.get(0).trim() + lines.get(1).trim();
+      }
+      try {
+        Thread.sleep(POLL_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new PlaywrightException("BrowserFleet: interrupted while starting browsers.", e);
+      }
+    }
+    throw new PlaywrightException("BrowserFleet: browser " + index + " did not open its endpoint within "
+        + option.getStartTimeoutMillis() + " ms.");
+  }
+
+  private void register(int index, String endpoint) throws IOException {
+    Path tmp = option.getDirectory().resolve(endpointFile(index) + ".tmp");
+    Files.writeString(tmp, endpoint);
+    Files.move(tmp, option.getDirectory().resolve(endpointFile(index)), StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+    endpoints.add(endpoint);
+  }
+
+  private static String endpointFile(int index) {
+    return "browser-" + index + ENDPOINT_SUFFIX;
+  }
+
+  private static Path installedChromium() {
+    try (Playwright playwright = Playwright.create()) {
+      return Path.of(playwright.chromium().executablePath());
+    }
+  }
+
+  /**
+   * Run a fleet until the JVM is stopped.
+   *
+   * @param args optional size and directory of the fleet
+   * @throws InterruptedException when interrupted
+   */
+  public static void main(String[] args) throws InterruptedException {
+    BrowserFleetOption.BrowserFleetOptionBuilder builder = BrowserFleetOption.builder();
+    if (args.length > 0) {
+      builder.size(Integer.parseInt(args[0]));
+    }
+    if (args.length > 1) {
+      builder.directory(Path.of(args[1]));
+    }
+
+    BrowserFleet fleet = start(builder.build());
+    Runtime.getRuntime().addShutdownHook(new Thread(fleet::close, "browser-fleet-close"));
+    new CountDownLatch(1).await();
+  }
+
+  /**
+   * Endpoint claimed by this JVM.
+   *
+   * @param endpoint CDP endpoint of the browser
+   * @param lock     lock held on the lock file of the endpoint
+   */
+  record Lease(String endpoint, FileLock lock) {
+    void release() {
+      FileLocks.release(lock);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+import org.playwright.core.options.BrowserContextOption;
+import org.playwright.core.options.BrowserLaunchOption;
+import org.playwright.core.options.PlaywrightOption;
+
+import java.nio.file.Path;
+
+/**
+ * Low level helpers to start Playwright drivers and launch browsers. Shared by the factory and the pools; every start
+ * goes through the {@link LaunchGuard} of {@link LaunchGuardSingleton}.
+ */
+final class BrowserLauncher {
+
+  private BrowserLauncher() {
+    throw new PlaywrightException("BrowserLauncher should not be instantiated!");
+  }
+
+  /**
+   * Start a new Playwright driver.
+   *
+   * @param options Playwright options
+   * @return Playwright instance
+   */
+  static Playwright createPlaywright(PlaywrightOption options) {
+    // retried to avoid rare occurrence of playwright driver failing to initialize at Runtime.
+    return LaunchGuardSingleton.getInstance().createDriver(() -> Playwright.create(options.forPlaywright()));
+  }
+
+  /**
+   * Launch a browser of the type selected in {@link BrowserLaunchOption#getBrowser()}, or connect to a running one when
+   * the options name an endpoint or a {@link BrowserFleet}.
+   *
+   * @param playwright Playwright instance used to launch the browser
+   * @param options    browser launch options
+   * @return Browser instance
+   */
+  static Browser launch(Playwright playwright, BrowserLaunchOption options) {
+    BrowserType browserType = browserType(playwright, options);
+    if (options.getEndpoint() != null) {
+      return connect(browserType, options, options.getEndpoint(), options.isConnectOverCdp());
+    }
+    if (options.getFleet() != null) {
+      if (browserType != playwright.chromium()) {
+        throw new PlaywrightException("BrowserFleet only runs Chromium browsers, can't connect a " + options.getBrowser()
+            + " browser to the fleet in " + options.getFleet());
+      }
+      BrowserFleet.Lease lease = BrowserFleet.claim(options.getFleet());
+      try {
+        Browser browser = connect(browserType, options, lease.endpoint(), true);
+        browser.onDisconnected(disconnected -> lease.release());
+        return browser;
+      } catch (RuntimeException e) {
+        lease.release();
+        throw e;
+      }
+    }
+    return LaunchGuardSingleton.getInstance().launchBrowser(() -> browserType.launch(options.forPlaywright()));
+  }
+
+  /**
+   * Launch a browser with a persistent context stored in the given user data directory.
+   *
+   * @param playwright           Playwright instance used to launch the browser
+   * @param options              browser launch options
+   * @param browserContextOption context options
+   * @param userDataDir          user data directory
+   * @return persistent BrowserContext, closing it closes the browser
+   */
+  static BrowserContext launchPersistentContext(Playwright playwright, BrowserLaunchOption options,
+                                                BrowserContextOption browserContextOption, Path userDataDir) {
+    BrowserType browserType = browserType(playwright, options);
+    return LaunchGuardSingleton.getInstance().launchBrowser(() -> browserType.launchPersistentContext(userDataDir,
+        options.forPersistentContext(browserContextOption)));
+  }
+
+  private static Browser connect(BrowserType browserType, BrowserLaunchOption options, String endpoint,
+                                 boolean overCdp) {
+    return LaunchGuardSingleton.getInstance().connectBrowser(() -> overCdp
+        ? browserType.connectOverCDP(endpoint, options.forConnectOverCdp())
+        : browserType.connect(endpoint, options.forConnect()));
+  }
+
+  private static BrowserType browserType(Playwright playwright, BrowserLaunchOption options) {
+    return switch (options.getBrowser()) {
+      case "chromium", "chrome", "msedge" -> playwright.chromium();
+      case "firefox" -> playwright.firefox();
+      case "webkit" -> playwright.webkit();
+      default -> throw new PlaywrightException("Unsupported browser: " + options.getBrowser());
+    };
+  }
+}
@@ -0,0 +1,305 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+import lombok.extern.slf4j.Slf4j;
+import org.playwright.core.options.BrowserLaunchOption;
+import org.playwright.core.options.BrowserPoolOption;
+import org.playwright.core.options.PlaywrightOption;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bounded pool of Browser instances shared by all threads. <br><br>
+ *
+ * <p>The pool keeps one sub-pool per launch option, so a browser is only handed to callers asking for the browser type
+ * (as chosen in {@link BrowserLaunchOption#getBrowser()}) and launch settings it was started with. Each sub-pool holds
+ * between {@link BrowserPoolOption#getMinSize()} and {@link BrowserPoolOption#getMaxSize()} browsers. A thread checks a
+ * browser out, uses it exclusively and returns it with {@link #release(Browser)}. When a sub-pool is exhausted, callers
+ * wait in arrival order until a browser is returned or the checkout timeout elapses.</p>
+ *
+ * <p>Every pooled browser is launched by its own Playwright driver. Playwright objects are not thread safe, so a pooled
+ * browser (and its driver) is only ever used by the thread that currently has it checked out. The same holds for the
+ * optional release hook: it runs in the background after a browser is returned, before the browser becomes available
+ * to the next caller.</p>
+ */
+@Slf4j
+public class BrowserPool implements AutoCloseable {
+  // checked out browsers of every pool, so a browser closed after its pool still goes back through the pool
+  private static final Map<Browser, BrowserPool> CHECKED_OUT = new ConcurrentHashMap<>();
+
+  private final BrowserPoolOption poolOption;
+  private final Function<BrowserLaunchOption, PooledBrowser> launcher;
+  private final Map<BrowserLaunchOption, SubPool> subPools = new ConcurrentHashMap<>();
+  private final Map<Browser, SubPool> owners = new ConcurrentHashMap<>();
+  private volatile boolean closed;
+  private volatile Consumer<Browser> releaseHook;
+  private ExecutorService releaseExecutor;
+
+  /**
+   * Create a browser pool. Browsers are launched lazily, except for the minimum size of the sub-pool of the
+   * given launch option which is launched eagerly.
+   *
+   * @param poolOption       pool sizing options
+   * @param playwrightOption options used to start the driver of each pooled browser
+   * @param launchOption     launch option of the sub-pool to pre-fill
+   */
+  public BrowserPool(BrowserPoolOption poolOption, PlaywrightOption playwrightOption, BrowserLaunchOption launchOption) {
+    this(poolOption, option -> launchWithOwnDriver(playwrightOption, option));
+    prefill(launchOption);
+  }
+
+  BrowserPool(BrowserPoolOption poolOption, Function<BrowserLaunchOption, PooledBrowser> launcher) {
+    if (poolOption.getMinSize() < 0 || poolOption.getMaxSize() < 1 || poolOption.getMinSize() > poolOption.getMaxSize()) {
+      throw new PlaywrightException("Invalid BrowserPoolOption: " + poolOption);
+    }
+    this.poolOption = poolOption;
+    this.launcher = launcher;
+  }
+
+  /**
+   * Launch the minimum number of browsers for the sub-pool of the given launch option.
+   *
+   * @param launchOption browser launch option
+   */
+  public void prefill(BrowserLaunchOption launchOption) {
+    SubPool subPool = subPool(launchOption);
+    while (subPool.size() < poolOption.getMinSize()) {
+      subPool.idle.offerLast(subPool.launch());
+    }
+  }
+
+  /**
+   * Check out a browser launched with the given launch option. Waits fairly when the sub-pool is exhausted.
+   *
+   * @param launchOption browser launch option
+   * @return Browser for exclusive use by the calling thread until it is released
+   */
+  public Browser checkout(BrowserLaunchOption launchOption) {
+    ensureOpen();
+    SubPool subPool = subPool(launchOption);
+
+    try {
+      if (!subPool.permits.tryAcquire(poolOption.getCheckoutTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+        throw new PlaywrightException("Timed out after " + poolOption.getCheckoutTimeoutMillis() + "ms waiting for a "
+            + subPool.browserType + " browser from the pool.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PlaywrightException("Interrupted while waiting for a browser from the pool.", e);
+    }
+
+    try {
+      PooledBrowser pooled = subPool.idle.pollFirst();
+      while (pooled != null && !pooled.browser().isConnected()) {
+        subPool.dispose(pooled);
+        pooled = subPool.idle.pollFirst();
+      }
+      if (pooled == null) {
+        pooled = subPool.launch();
+      }
+      owners.put(pooled.browser(), subPool);
+      CHECKED_OUT.put(pooled.browser(), this);
+      return pooled.browser();
+    } catch (RuntimeException e) {
+      subPool.permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Return a checked out browser to the pool. Disconnected browsers are discarded and replaced on demand.
+   *
+   * @param browser browser previously returned by {@link #checkout(BrowserLaunchOption)}
+   */
+  public void release(Browser browser) {
+    SubPool subPool = owners.remove(browser);
+    if (subPool == null) {
+      throw new PlaywrightException("Browser was not checked out from this pool.");
+    }
+    CHECKED_OUT.remove(browser, this);
+
+    PooledBrowser pooled = subPool.all.get(browser);
+    Consumer<Browser> hook = releaseHook;
+    if (hook == null || closed || !browser.isConnected()) {
+      subPool.requeue(pooled);
+      return;
+    }
+
+    try {
+      releaseExecutor.execute(() -> {
+        try {
+          hook.accept(browser);
+        } catch (RuntimeException e) {
+          log.warn("BrowserPool: release hook failed. Absorbing exception.", e);
+        } finally {
+          subPool.requeue(pooled);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      subPool.requeue(pooled);
+    }
+  }
+
+  /**
+   * Register work to run in the background on every returned browser before it is handed out again, such as
+   * pre-creating BrowserContexts.
+   *
+   * @param releaseHook work to run on a returned browser
+   */
+  public synchronized void setReleaseHook(Consumer<Browser> releaseHook) {
+    if (releaseExecutor == null) {
+      releaseExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "browser-pool-release");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    this.releaseHook = releaseHook;
+  }
+
+  public boolean isCheckedOut(Browser browser) {
+    return owners.containsKey(browser);
+  }
+
+  /**
+   * Pool a browser is checked out from, even when that pool has been closed since.
+   *
+   * @param browser browser
+   * @return owning pool, or null when the browser is not checked out from a pool
+   */
+  static BrowserPool ownerOf(Browser browser) {
+    return CHECKED_OUT.get(browser);
+  }
+
+  /**
+   * Number of browsers of the given type in the pool, across all launch options.
+   *
+   * @param browserType browser type
+   * @return checked out and idle browsers
+   */
+  public int size(String browserType) {
+    return subPools.values().stream()
+        .filter(subPool -> subPool.browserType.equals(normalize(browserType)))
+        .mapToInt(SubPool::size)
+        .sum();
+  }
+
+  /**
+   * Number of idle browsers of the given type in the pool, across all launch options.
+   *
+   * @param browserType browser type
+   * @return idle browsers
+   */
+  public int idleCount(String browserType) {
+    return subPools.values().stream()
+        .filter(subPool -> subPool.browserType.equals(normalize(browserType)))
+        .mapToInt(subPool -> subPool.idle.size())
+        .sum();
+  }
+
+  /**
+   * Close every idle browser and its driver. Browsers that are still checked out are closed when released.
+   */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    if (releaseExecutor != null) {
+      releaseExecutor.shutdown();
+    }
+    subPools.values().forEach(subPool -> {
+      PooledBrowser pooled = subPool.idle.pollFirst();
+      while (pooled != null) {
+        subPool.dispose(pooled);
+        pooled = subPool.idle.pollFirst();
+      }
+    });
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new PlaywrightException("BrowserPool is closed.");
+    }
+  }
+
+  private SubPool subPool(BrowserLaunchOption launchOption) {
+    BrowserLaunchOption key = launchOption.toBuilder().browser(normalize(launchOption.getBrowser())).build();
+    return subPools.computeIfAbsent(key, option -> new SubPool(option.getBrowser(), launchOption));
+  }
+
+  private static String normalize(String browserType) {
+    return browserType.toLowerCase(Locale.ROOT);
+  }
+
+  private static PooledBrowser launchWithOwnDriver(PlaywrightOption playwrightOption, BrowserLaunchOption option) {
+    Playwright playwright = BrowserLauncher.createPlaywright(playwrightOption);
+    try {
+      return new PooledBrowser(playwright, BrowserLauncher.launch(playwright, option));
+    } catch (RuntimeException e) {
+      playwright.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Browser together with the driver that launched it.
+   */
+  record PooledBrowser(Playwright playwright, Browser browser) {
+  }
+
+  private final class SubPool {
+    private final String browserType;
+    private final BrowserLaunchOption launchOption;
+    private final Semaphore permits = new Semaphore(poolOption.getMaxSize(), true);
+    private final LinkedBlockingDeque<PooledBrowser> idle = new LinkedBlockingDeque<>();
+    private final Map<Browser, PooledBrowser> all = new ConcurrentHashMap<>();
+
+    SubPool(String browserType, BrowserLaunchOption launchOption) {
+      this.browserType = browserType;
+      this.launchOption = launchOption;
+    }
+
+    int size() {
+      return all.size();
+    }
+
+    PooledBrowser launch() {
+      log.debug("BrowserPool: launching new {} browser ({} in pool).", browserType, all.size());
+      PooledBrowser pooled = launcher.apply(launchOption);
+      all.put(pooled.browser(), pooled);
+      return pooled;
+    }
+
+    void requeue(PooledBrowser pooled) {
+      if (closed || !pooled.browser().isConnected()) {
+        dispose(pooled);
+      } else {
+        idle.offerFirst(pooled);
+      }
+      permits.release();
+    }
+
+    void dispose(PooledBrowser pooled) {
+      all.remove(pooled.browser());
+      try {
+        pooled.browser().close();
+        if (pooled.playwright() != null) {
+          pooled.playwright().close();
+        }
+      } catch (PlaywrightException e) {
+        log.warn("BrowserPool: error while closing pooled {} browser. Absorbing exception.", browserType, e);
+      }
+    }
+  }
+}
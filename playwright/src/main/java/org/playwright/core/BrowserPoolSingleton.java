@@ -0,0 +1,19 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.PlaywrightException;
+
+public class BrowserPoolSingleton {
+  private static volatile BrowserPool browserPool;
+
+  private BrowserPoolSingleton() {
+    throw new PlaywrightException("BrowserPoolSingleton should not be instantiated!");
+  }
+
+  public static BrowserPool getInstance() {
+    return browserPool;
+  }
+
+  public static void setInstance(BrowserPool browserPool) {
+    BrowserPoolSingleton.browserPool = browserPool;
+  }
+}
@@ -0,0 +1,83 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.PlaywrightException;
+import org.playwright.core.options.TracingStartOption;
+import org.playwright.core.options.TracingStopOption;
+import org.playwright.metrics.Operation;
+import org.playwright.metrics.OperationTimer;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-test tracing on top of Playwright tracing chunks. <br><br>
+ *
+ * <p>Tracing is started once per BrowserContext and every test records its own chunk, so reused (pooled) contexts
+ * don't restart tracing. Chunks of runs that the {@link org.playwright.core.options.TracingPolicy} does not retain are
+ * stopped without a path, which discards them without serializing anything to disk.</p>
+ */
+final class ContextTracing {
+  private static final Set<BrowserContext> STARTED = Collections.synchronizedSet(
+      Collections.newSetFromMap(new WeakHashMap<>()));
+  private static final Map<BrowserContext, TracingStartOption> RECORDING = new ConcurrentHashMap<>();
+
+  private ContextTracing() {
+    throw new PlaywrightException("ContextTracing should not be instantiated!");
+  }
+
+  /**
+   * Start recording a chunk for the next test, when the policy records this run.
+   *
+   * @param browserContext     context to record
+   * @param tracingStartOption tracing options and policy
+   */
+  static void start(BrowserContext browserContext, TracingStartOption tracingStartOption) {
+    if (!tracingStartOption.getPolicy().records(tracingStartOption.getRetryAttempt())) {
+      return;
+    }
+
+    if (STARTED.add(browserContext)) {
+      browserContext.tracing().start(tracingStartOption.forPlaywright());
+    } else {
+      browserContext.tracing().startChunk();
+    }
+    RECORDING.put(browserContext, tracingStartOption);
+  }
+
+  /**
+   * Stop the chunk of the current test. It is written to disk only when the policy retains it.
+   *
+   * @param browserContext    recorded context
+   * @param tracingStopOption where to write the trace
+   * @param testFailed        whether the test failed
+   */
+  static void stop(BrowserContext browserContext, TracingStopOption tracingStopOption, boolean testFailed) {
+    TracingStartOption tracingStartOption = RECORDING.remove(browserContext);
+    if (tracingStartOption == null) {
+      return;
+    }
+
+    boolean retained = tracingStartOption.getPolicy().retains(testFailed);
+    try (OperationTimer ignored = OperationTimer.start(Operation.TRACING_STOP, String.valueOf(retained))) {
+      if (retained) {
+        browserContext.tracing().stopChunk(tracingStopOption.forChunk());
+      } else {
+        browserContext.tracing().stopChunk();
+      }
+    }
+  }
+
+  /**
+   * Forget a context that is about to be closed.
+   *
+   * @param browserContext context
+   */
+  static void forget(BrowserContext browserContext) {
+    RECORDING.remove(browserContext);
+    STARTED.remove(browserContext);
+  }
+}
@@ -0,0 +1,83 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.PlaywrightException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Exclusive locks on lock files, used to hand a shared resource on disk to one thread across all JVMs of the host. The
+ * OS releases the lock when the JVM holding it dies, so a crashed fork never leaves a resource claimed. <br><br>
+ *
+ * <p>The OS lock belongs to the whole JVM and is dropped as soon as any channel of the JVM on the file is closed, even
+ * one that never held the lock. Lock files held by this JVM are therefore registered, and never opened a second time
+ * until released.</p>
+ */
+@Slf4j
+final class FileLocks {
+  private static final Set<Path> HELD = ConcurrentHashMap.newKeySet();
+  private static final Map<FileLock, Path> LOCK_FILES = new ConcurrentHashMap<>();
+
+  private FileLocks() {
+    throw new PlaywrightException("FileLocks should not be instantiated!");
+  }
+
+  /**
+   * Lock the given file without waiting.
+   *
+   * @param lockFile lock file, created if missing
+   * @return lock, release it with {@link #release(FileLock)}; null when another thread or JVM holds it
+   * @throws IOException when the lock file can't be opened
+   */
+  static FileLock tryLock(Path lockFile) throws IOException {
+    Path key = lockFile.toAbsolutePath().normalize();
+    if (!HELD.add(key)) {
+      log.trace("FileLocks: {} is held by another thread.", lockFile);
+      return null;
+    }
+
+    FileLock lock = null;
+    try {
+      FileChannel channel = FileChannel.open(key, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+      try {
+        lock = channel.tryLock();
+      } finally {
+        if (lock == null) {
+          channel.close();
+        }
+      }
+    } finally {
+      if (lock == null) {
+        HELD.remove(key);
+      }
+    }
+    LOCK_FILES.put(lock, key);
+    return lock;
+  }
+
+  /**
+   * Release a lock obtained from {@link #tryLock(Path)}.
+   *
+   * @param lock lock to release
+   */
+  static void release(FileLock lock) {
+    try {
+      lock.channel().close();
+    } catch (IOException e) {
+      log.debug("FileLocks: unable to release lock.", e);
+    } finally {
+      // only once the channel is closed, so a new channel can't lose its lock to this close
+      Path key = LOCK_FILES.remove(lock);
+      if (key != null) {
+        HELD.remove(key);
+      }
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.PlaywrightException;
+import dev.failsafe.CircuitBreaker;
+import dev.failsafe.CircuitBreakerOpenException;
+import dev.failsafe.Failsafe;
+import dev.failsafe.FailsafeExecutor;
+import dev.failsafe.RetryPolicy;
+import dev.failsafe.function.CheckedSupplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.playwright.core.options.LaunchGuardOption;
+import org.playwright.failsafe.FailsafePolicy;
+import org.playwright.failsafe.RetryOption;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Failsafe protection around driver creation, browser launches and connections to running browsers. <br><br>
+ *
+ * <p>A bulkhead (fair semaphore) shared by all paths caps the number of processes being started at once; callers
+ * beyond the cap wait for a slot instead of piling onto a saturated host. Each path has a circuit breaker that opens
+ * after consecutive failures and rejects immediately until a trial attempt succeeds, so a broken host fails fast rather
+ * than every worker retrying. Connecting has its own breaker, so an unreachable endpoint doesn't block local launches
+ * and vice versa. Driver creation is retried with exponential backoff and jitter inside the breaker.</p>
+ */
+@Slf4j
+public final class LaunchGuard {
+  @Getter
+  private final LaunchGuardOption option;
+  private final Semaphore launchSlots;
+  private final CircuitBreaker<Object> driverCircuit;
+  private final CircuitBreaker<Object> launchCircuit;
+  private final CircuitBreaker<Object> connectCircuit;
+  private final FailsafeExecutor<Object> driverExecutor;
+  private final FailsafeExecutor<Object> launchExecutor;
+  private final FailsafeExecutor<Object> connectExecutor;
+  private final AtomicInteger activeLaunches = new AtomicInteger();
+  private final LongAdder circuitRejections = new LongAdder();
+  private final LongAdder bulkheadRejections = new LongAdder();
+
+  /**
+   * Create a launch guard.
+   *
+   * @param option concurrency, circuit breaker and retry limits
+   */
+  public LaunchGuard(LaunchGuardOption option) {
+    this.option = option;
+    this.launchSlots = new Semaphore(option.getMaxConcurrentLaunches(), true);
+    this.driverCircuit = circuitBreaker("driver creation");
+    this.launchCircuit = circuitBreaker("browser launch");
+    this.connectCircuit = circuitBreaker("browser connect");
+
+    RetryPolicy<Object> driverRetry = new FailsafePolicy().createRetryPolicy(RetryOption.builder()
+        .delayMillis(option.getRetryDelayMillis())
+        .maxDelayMillis(option.getRetryDelayMillis() * 8)
+        .jitterFactor(0.25)
+        .maxRetries(option.getDriverRetries())
+        .abortOn(List.of(NoLaunchSlotException.class))
+        .build());
+    // outermost first: the breaker sees one failure per exhausted retry cycle
+    this.driverExecutor = Failsafe.with(driverCircuit, driverRetry);
+    this.launchExecutor = Failsafe.with(launchCircuit);
+    this.connectExecutor = Failsafe.with(connectCircuit);
+  }
+
+  /**
+   * Create a Playwright driver under the bulkhead, retry policy and driver circuit breaker.
+   *
+   * @param createDriver driver creation
+   * @param <T>          driver type
+   * @return driver
+   * @throws PlaywrightException when the circuit is open or no launch slot frees up in time
+   */
+  public <T> T createDriver(CheckedSupplier<T> createDriver) {
+    return guard(driverExecutor, createDriver, "driver creation");
+  }
+
+  /**
+   * Launch a browser under the bulkhead and launch circuit breaker.
+   *
+   * @param launchBrowser browser launch
+   * @param <T>           browser type
+   * @return browser
+   * @throws PlaywrightException when the circuit is open or no launch slot frees up in time
+   */
+  public <T> T launchBrowser(CheckedSupplier<T> launchBrowser) {
+    return guard(launchExecutor, launchBrowser, "browser launch");
+  }
+
+  /**
+   * Connect to a running browser under the bulkhead and connect circuit breaker.
+   *
+   * @param connectBrowser connection to a browser endpoint
+   * @param <T>            browser type
+   * @return browser
+   * @throws PlaywrightException when the circuit is open or no launch slot frees up in time
+   */
+  public <T> T connectBrowser(CheckedSupplier<T> connectBrowser) {
+    return guard(connectExecutor, connectBrowser, "browser connect");
+  }
+
+  public CircuitBreaker.State getDriverCircuitState() {
+    return driverCircuit.getState();
+  }
+
+  public CircuitBreaker.State getLaunchCircuitState() {
+    return launchCircuit.getState();
+  }
+
+  public CircuitBreaker.State getConnectCircuitState() {
+    return connectCircuit.getState();
+  }
+
+  public int getActiveLaunches() {
+    return activeLaunches.get();
+  }
+
+  public long getCircuitRejections() {
+    return circuitRejections.sum();
+  }
+
+  public long getBulkheadRejections() {
+    return bulkheadRejections.sum();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T guard(FailsafeExecutor<Object> executor, CheckedSupplier<T> supplier, String what) {
+    try {
+      // every attempt takes its own slot, so backoff between retries does not hold one
+      return (T) executor.get(() -> withLaunchSlot(supplier));
+    } catch (CircuitBreakerOpenException e) {
+      circuitRejections.increment();
+      throw new PlaywrightException("LaunchGuard: " + what + " rejected, the circuit is open after repeated failures.", e);
+    } catch (NoLaunchSlotException e) {
+      bulkheadRejections.increment();
+      throw new PlaywrightException("LaunchGuard: " + what + " rejected, no launch slot freed up within "
+          + option.getMaxWaitMillis() + " ms.", e);
+    }
+  }
+
+  private <T> T withLaunchSlot(CheckedSupplier<T> supplier) throws Throwable {
+    if (!launchSlots.tryAcquire(option.getMaxWaitMillis(), TimeUnit.MILLISECONDS)) {
+      throw new NoLaunchSlotException();
+    }
+    activeLaunches.incrementAndGet();
+    try {
+      return supplier.get();
+    } finally {
+      activeLaunches.decrementAndGet();
+      launchSlots.release();
+    }
+  }
+
+  private CircuitBreaker<Object> circuitBreaker(String what) {
+    return CircuitBreaker.builder()
+        // waiting for a slot says nothing about the health of the host
+        .handleIf(e -> !(e instanceof NoLaunchSlotException))
+        .withFailureThreshold(option.getFailureThreshold())
+        .withDelay(Duration.ofMillis(option.getOpenMillis()))
+        .onOpen(e -> log.warn("LaunchGuard: {} circuit opened, rejecting for {} ms.", what, option.getOpenMillis()))
+        .onHalfOpen(e -> log.info("LaunchGuard: {} circuit half-open, trying again.", what))
+        .onClose(e -> log.info("LaunchGuard: {} circuit closed.", what))
+        .build();
+  }
+
+  /**
+   * No launch slot freed up within {@link LaunchGuardOption#getMaxWaitMillis()}.
+   */
+  private static final class NoLaunchSlotException extends RuntimeException {
+    NoLaunchSlotException() {
+      super(null, null, false, false);
+    }
+  }
+}
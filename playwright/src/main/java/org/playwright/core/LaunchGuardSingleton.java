@@ -0,0 +1,20 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.PlaywrightException;
+import org.playwright.core.options.LaunchGuardOption;
+
+public class LaunchGuardSingleton {
+  private static volatile LaunchGuard launchGuard = new LaunchGuard(LaunchGuardOption.builder().build());
+
+  private LaunchGuardSingleton() {
+    throw new PlaywrightException("LaunchGuardSingleton should not be instantiated!");
+  }
+
+  public static LaunchGuard getInstance() {
+    return launchGuard;
+  }
+
+  public static void setInstance(LaunchGuard launchGuard) {
+    LaunchGuardSingleton.launchGuard = launchGuard;
+  }
+}
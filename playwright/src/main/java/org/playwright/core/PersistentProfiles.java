@@ -0,0 +1,148 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.PlaywrightException;
+import lombok.extern.slf4j.Slf4j;
+import org.playwright.core.options.PersistentProfileOption;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * User data directories of persistent contexts, reused across runs. <br><br>
+ *
+ * <p>A worker claims the first directory {@code <browser>-<n>} whose lock file it can lock, so concurrent threads and
+ * JVMs sharing the directory never open the same profile twice, and the lock is released by the OS if the JVM dies. A
+ * directory used for the first time is copied from the {@link PersistentProfileOption#getTemplate() golden profile};
+ * the copy is made next to it and moved into place, so an interrupted copy is never picked up as a profile.</p>
+ */
+@Slf4j
+final class PersistentProfiles {
+  private static final Map<BrowserContext, Profile> LEASES = new ConcurrentHashMap<>();
+  // Chromium singleton files point to the process owning the template, a copy must not inherit them
+  private static final List<String> SKIPPED_FILES = List.of("SingletonLock", "SingletonSocket", "SingletonCookie",
+      "lockfile", "parent.lock");
+
+  private PersistentProfiles() {
+    throw new PlaywrightException("PersistentProfiles should not be instantiated!");
+  }
+
+  /**
+   * Claim a free user data directory, copying the template into it on first use.
+   *
+   * @param option  profile options
+   * @param browser browser the profile belongs to, profiles are not shared between browsers
+   * @return claimed profile, to be released once its context is closed
+   * @throws PlaywrightException when every directory is in use
+   */
+  static Profile claim(PersistentProfileOption option, String browser) {
+    try {
+      Files.createDirectories(option.getDirectory());
+      for (int i = 0; i < option.getMaxProfiles(); i++) {
+        Path directory = option.getDirectory().resolve(browser + "-" + i);
+        FileLock lock = FileLocks.tryLock(option.getDirectory().resolve(browser + "-" + i + ".lock"));
+        if (lock != null) {
+          Profile profile = new Profile(directory, lock);
+          try {
+            if (!Files.isDirectory(directory)) {
+              create(directory, option.getTemplate());
+            }
+          } catch (IOException | RuntimeException e) {
+            profile.release();
+            throw e;
+          }
+          return profile;
+        }
+      }
+    } catch (IOException e) {
+      throw new PlaywrightException("Unable to claim a persistent profile in " + option.getDirectory(), e);
+    }
+    throw new PlaywrightException("All " + option.getMaxProfiles() + " persistent " + browser + " profiles in "
+        + option.getDirectory() + " are in use.");
+  }
+
+  /**
+   * Hold the profile until the given context is closed.
+   *
+   * @param browserContext persistent context using the profile
+   * @param profile        claimed profile
+   */
+  static void register(BrowserContext browserContext, Profile profile) {
+    LEASES.put(browserContext, profile);
+  }
+
+  /**
+   * Release the profile of a closed persistent context. No-op for other contexts.
+   *
+   * @param browserContext closed context
+   */
+  static void release(BrowserContext browserContext) {
+    Profile profile = LEASES.remove(browserContext);
+    if (profile != null) {
+      profile.release();
+    }
+  }
+
+  private static void create(Path directory, Path template) throws IOException {
+    if (template == null) {
+      Files.createDirectories(directory);
+      return;
+    }
+
+    Path copy = directory.resolveSibling(directory.getFileName() + ".tmp");
+    deleteRecursively(copy);
+    log.info("PersistentProfiles: creating profile {} from template {}.", directory, template);
+    try (Stream<Path> paths = Files.walk(template)) {
+      paths.forEach(path -> copy(path, copy.resolve(template.relativize(path).toString())));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    Files.move(copy, directory, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private static void copy(Path source, Path target) {
+    try {
+      if (Files.isDirectory(source, LinkOption.NOFOLLOW_LINKS)) {
+        Files.createDirectories(target);
+      } else if (Files.isRegularFile(source, LinkOption.NOFOLLOW_LINKS)
+          && !SKIPPED_FILES.contains(source.getFileName().toString())) {
+        Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void deleteRecursively(Path directory) throws IOException {
+    if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  /**
+   * User data directory claimed by this JVM.
+   *
+   * @param directory user data directory
+   * @param lock      lock held on the lock file of the directory
+   */
+  record Profile(Path directory, FileLock lock) {
+    void release() {
+      FileLocks.release(lock);
+    }
+  }
+}
@@ -0,0 +1,250 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+import lombok.extern.slf4j.Slf4j;
+import org.playwright.core.options.PlaywrightDispatcherOption;
+import org.playwright.core.options.PlaywrightOption;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Small, fixed set of Playwright drivers shared by the whole JVM. <br><br>
+ *
+ * <p>Each driver lives on a dedicated owner thread, which is the only thread that ever calls into it. Callers, including
+ * lightweight or virtual threads, submit work to a {@link Lane} and receive the result. Every object created inside a
+ * lane (Browser, BrowserContext, Page) belongs to that lane and must only be used by work submitted to the same lane,
+ * so either do all work of a test in one submission or keep a reference to the lane returned by {@link #lane()}.</p>
+ *
+ * <p>Inside a lane, {@link PlaywrightResourceFactory} resources resolve to the lane's driver, so existing code that
+ * calls {@code PlaywrightResourceFactory.create(...)} works unchanged when it is submitted to the dispatcher.</p>
+ */
+@Slf4j
+public class PlaywrightDispatcher implements AutoCloseable {
+  private static final ThreadLocal<Lane> CURRENT_LANE = new ThreadLocal<>();
+
+  private final List<Lane> lanes = new ArrayList<>();
+  private final AtomicInteger nextLane = new AtomicInteger();
+
+  /**
+   * Start the drivers. Blocks until every driver is running on its owner thread.
+   *
+   * @param dispatcherOption number of drivers and start timeout
+   * @param playwrightOption options used to create each driver
+   */
+  public PlaywrightDispatcher(PlaywrightDispatcherOption dispatcherOption, PlaywrightOption playwrightOption) {
+    this(dispatcherOption, () -> BrowserLauncher.createPlaywright(playwrightOption));
+  }
+
+  PlaywrightDispatcher(PlaywrightDispatcherOption dispatcherOption, Supplier<Playwright> driverFactory) {
+    if (dispatcherOption.getDriverCount() < 1) {
+      throw new PlaywrightException("Invalid PlaywrightDispatcherOption: " + dispatcherOption);
+    }
+
+    List<CompletableFuture<Playwright>> drivers = new ArrayList<>();
+    for (int i = 0; i < dispatcherOption.getDriverCount(); i++) {
+      Lane lane = new Lane(i);
+      lanes.add(lane);
+      drivers.add(lane.start(driverFactory));
+    }
+
+    try {
+      CompletableFuture.allOf(drivers.toArray(new CompletableFuture<?>[0]))
+          .get(dispatcherOption.getStartTimeoutMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close();
+      throw new PlaywrightException("Interrupted while starting Playwright drivers.", e);
+    } catch (ExecutionException | TimeoutException e) {
+      close();
+      throw new PlaywrightException("Unable to start Playwright drivers.", e);
+    }
+  }
+
+  /**
+   * Lane owning the calling thread, when the caller is running inside a dispatcher lane.
+   *
+   * @return current lane or null
+   */
+  public static Lane currentLane() {
+    return CURRENT_LANE.get();
+  }
+
+  /**
+   * Pick the least busy lane. Use the returned lane for every call that touches objects created through it.
+   *
+   * @return lane
+   */
+  public Lane lane() {
+    int start = Math.floorMod(nextLane.getAndIncrement(), lanes.size());
+    Lane selected = lanes.get(start);
+    for (int i = 1; i < lanes.size(); i++) {
+      Lane candidate = lanes.get((start + i) % lanes.size());
+      if (candidate.pending.get() < selected.pending.get()) {
+        selected = candidate;
+      }
+    }
+    return selected;
+  }
+
+  public List<Lane> lanes() {
+    return List.copyOf(lanes);
+  }
+
+  /**
+   * Run work on the least busy lane.
+   *
+   * @param work work to run with the lane's driver
+   * @param <T>  result type
+   * @return future completed with the result on the lane's owner thread
+   */
+  public <T> CompletableFuture<T> submit(Function<Playwright, T> work) {
+    return lane().submit(work);
+  }
+
+  /**
+   * Run work on the least busy lane and wait for its result.
+   *
+   * @param work work to run with the lane's driver
+   * @param <T>  result type
+   * @return result
+   */
+  public <T> T call(Function<Playwright, T> work) {
+    return lane().call(work);
+  }
+
+  /**
+   * Close every driver on its owner thread and stop the owner threads.
+   */
+  @Override
+  public void close() {
+    lanes.forEach(Lane::stop);
+  }
+
+  /**
+   * One driver and the single thread allowed to use it.
+   */
+  public static final class Lane {
+    private final int index;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ExecutorService owner;
+    private volatile Thread ownerThread;
+    private Playwright playwright;
+
+    private Lane(int index) {
+      this.index = index;
+      this.owner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "playwright-driver-" + index);
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+
+    public int getIndex() {
+      return index;
+    }
+
+    public int getPending() {
+      return pending.get();
+    }
+
+    public boolean isOwnerThread() {
+      return Thread.currentThread() == ownerThread;
+    }
+
+    /**
+     * Driver of this lane. Only available on the lane's owner thread.
+     *
+     * @return Playwright driver
+     */
+    public Playwright getPlaywright() {
+      if (!isOwnerThread()) {
+        throw new PlaywrightException("Playwright driver of lane " + index + " can only be used on its owner thread.");
+      }
+      return playwright;
+    }
+
+    /**
+     * Queue work on this lane's owner thread.
+     *
+     * @param work work to run with the lane's driver
+     * @param <T>  result type
+     * @return future completed with the result
+     */
+    public <T> CompletableFuture<T> submit(Function<Playwright, T> work) {
+      pending.incrementAndGet();
+      try {
+        return CompletableFuture.supplyAsync(() -> {
+          try {
+            ResourceTeardown.awaitHandoff();
+            return work.apply(playwright);
+          } finally {
+            pending.decrementAndGet();
+          }
+        }, owner);
+      } catch (RuntimeException e) {
+        pending.decrementAndGet();
+        throw new PlaywrightException("Lane " + index + " is not accepting work.", e);
+      }
+    }
+
+    /**
+     * Run work on this lane and wait for its result. When called from the owner thread itself, the work runs inline.
+     *
+     * @param work work to run with the lane's driver
+     * @param <T>  result type
+     * @return result
+     */
+    public <T> T call(Function<Playwright, T> work) {
+      if (isOwnerThread()) {
+        ResourceTeardown.awaitHandoff();
+        return work.apply(playwright);
+      }
+
+      try {
+        return submit(work).join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw e;
+      }
+    }
+
+    private CompletableFuture<Playwright> start(Supplier<Playwright> driverFactory) {
+      return CompletableFuture.supplyAsync(() -> {
+        ownerThread = Thread.currentThread();
+        CURRENT_LANE.set(this);
+        playwright = driverFactory.get();
+        PlaywrightSingleton.setInstance(playwright);
+        log.debug("PlaywrightDispatcher: driver started on {}.", ownerThread.getName());
+        return playwright;
+      }, owner);
+    }
+
+    private void stop() {
+      try {
+        owner.submit(() -> {
+          ResourceTeardown.awaitHandoff();
+          if (playwright != null) {
+            playwright.close();
+          }
+        });
+      } catch (RuntimeException e) {
+        log.warn("PlaywrightDispatcher: unable to close driver of lane {}. Absorbing exception.", index, e);
+      }
+      owner.shutdown();
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.PlaywrightException;
+
+public class PlaywrightDispatcherSingleton {
+  private static volatile PlaywrightDispatcher playwrightDispatcher;
+
+  private PlaywrightDispatcherSingleton() {
+    throw new PlaywrightException("PlaywrightDispatcherSingleton should not be instantiated!");
+  }
+
+  public static PlaywrightDispatcher getInstance() {
+    return playwrightDispatcher;
+  }
+
+  public static void setInstance(PlaywrightDispatcher playwrightDispatcher) {
+    PlaywrightDispatcherSingleton.playwrightDispatcher = playwrightDispatcher;
+  }
+}
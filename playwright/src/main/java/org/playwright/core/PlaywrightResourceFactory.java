@@ -7,13 +7,18 @@ import com.microsoft.playwright.PlaywrightException;
 import lombok.SneakyThrows;
 import org.playwright.common.OptionCtx;
 import org.playwright.common.PlaywrightResource;
+import org.playwright.common.RequestTracker;
 import org.playwright.common.ResourceOptionArg;
 import org.playwright.core.options.BrowserContextOption;
+import org.playwright.core.options.BrowserContextPoolOption;
 import org.playwright.core.options.BrowserLaunchOption;
+import org.playwright.core.options.BrowserPoolOption;
+import org.playwright.core.options.PlaywrightDispatcherOption;
 import org.playwright.core.options.PlaywrightOption;
 import org.playwright.core.options.TracingStartOption;
 import org.playwright.core.options.TracingStopOption;
-import org.playwright.failsafe.FailsafeRetry;
+import org.playwright.metrics.Operation;
+import org.playwright.metrics.OperationTimer;
 
 import java.util.Arrays;
 import java.util.List;
@@ -34,6 +39,19 @@ public interface PlaywrightResourceFactory {
    * The Browser and Playwright instances are reused if there is one already existing (default behavior). However this
    * can be overridden by passing ResourceOptionArg.NEW_BROWSER_INSTANCE or ResourceOptionArg.NEW_PLAYWRIGHT_INSTANCE</p><br>
    *
+   * <p>The BrowserPool resource is shared by all threads. Once it is created, Browser resources are checked out of the
+   * pool instead of being launched per thread, and closing such a Browser returns it to the pool.</p><br>
+   *
+   * <p>Likewise, once the BrowserContextPool resource is created, BrowserContext resources are taken from the pool and
+   * closing them resets and returns them to the pool.</p><br>
+   *
+   * <p>The PlaywrightDispatcher resource is an opt-in, JVM wide set of drivers running on dedicated owner threads. Work
+   * submitted to the dispatcher resolves the Playwright resource to the driver of the lane it runs on.</p><br>
+   *
+   * <p>The PERSISTENT_CONTEXT resource is a BrowserContext launched with its own browser on a user data directory that
+   * is kept across runs (see {@link org.playwright.core.options.PersistentProfileOption}), so the HTTP, code and service
+   * worker caches are warm on repeat runs. It is always a new instance, and closing it closes its browser.</p><br>
+   *
    * <p>The arguments passed to create() are optional and can be in any order. In addition to passing
    * ResourceOptionArg constants, any of the resource Option classes that implements IOption can be passed as arguments.
    * This will override the default options.</p>
@@ -44,35 +62,136 @@ public interface PlaywrightResourceFactory {
    */
   @SuppressWarnings("unchecked")
   static <T extends AutoCloseable> T create(PlaywrightResource resource, Object... args) {
-    return switch (resource) {
-      case PLAYWRIGHT -> (T) createPlaywright(args);
-      case BROWSER -> (T) createBrowser(args);
-      case BROWSER_CONTEXT -> (T) createBrowserContext(args);
-    };
+    ResourceTeardown.awaitHandoff();
+    try (OperationTimer ignored = OperationTimer.start(Operation.RESOURCE_CREATE, resource.name())) {
+      return switch (resource) {
+        case PLAYWRIGHT -> (T) createPlaywright(args);
+        case BROWSER -> (T) createBrowser(args);
+        case BROWSER_CONTEXT -> (T) createBrowserContext(args);
+        case BROWSER_POOL -> (T) createBrowserPool(args);
+        case BROWSER_CONTEXT_POOL -> (T) createBrowserContextPool(args);
+        case PLAYWRIGHT_DISPATCHER -> (T) createPlaywrightDispatcher(args);
+        case PERSISTENT_CONTEXT -> (T) createPersistentContext(args);
+      };
+    }
+  }
+
+  /**
+   * Start Playwright drivers, each with a launched Browser, in the background, e.g. while tests are being discovered.
+   * The next threads creating the PLAYWRIGHT and BROWSER resources with the same options take these instances instead
+   * of starting their own, so the first tests don't pay the driver and browser start. See {@link PrewarmQueue}.
+   *
+   * @param count number of driver and browser pairs, typically the number of test threads
+   * @param args  Optional PlaywrightOption and BrowserLaunchOption
+   */
+  static void prewarm(int count, Object... args) {
+    PrewarmQueue.getInstance().start(count, resolvePlaywrightOption(args), resolveBrowserLaunchOption(args));
   }
 
   /**
-   * Close Playwright resource.
+   * Close Playwright resource. <br><br>
+   *
+   * <p>Passing ResourceOptionArg.ASYNC_CLOSE when closing a BrowserContext hands the teardown (tracing stop, video
+   * finalization, close) to the bounded {@link ResourceTeardown} executor and returns immediately; when its queue is
+   * full the call blocks until a slot frees up. The calling thread's Playwright objects are handed to the teardown
+   * thread meanwhile, and handed back on the next create() or close() of this thread, which waits for the teardown to
+   * finish. Don't use Playwright objects directly in between.</p>
+   *
+   * <p>Pass ResourceOptionArg.TEST_FAILED when closing the BrowserContext of a failed test, so that the
+   * {@link org.playwright.core.options.TracingPolicy} and {@link org.playwright.core.options.VideoPolicy} of the context
+   * can decide whether its trace and videos are kept.</p>
    *
    * @param object resource
    * @param args   Optional arguments
    */
-  @SneakyThrows
   static <T extends AutoCloseable> void close(T object, Object... args) {
+    ResourceTeardown.awaitHandoff();
+    try (OperationTimer ignored = OperationTimer.start(Operation.RESOURCE_CLOSE, resourceName(object))) {
+      closeResource(object, args);
+    }
+  }
+
+  @SneakyThrows
+  private static void closeResource(AutoCloseable object, Object... args) {
     if (object instanceof BrowserContext) {
       TracingStopOption tracingStopOption = Arrays.stream(args)
           .filter(arg -> arg instanceof TracingStopOption)
           .map(arg -> (TracingStopOption) arg)
           .findFirst()
-          .orElse(OptionCtx.exists(OptionCtx.Key.TRACE_STOP_OPTION)
-              ? (TracingStopOption) OptionCtx.getContext().get(OptionCtx.Key.TRACE_STOP_OPTION)
-              : TracingStopOption.builder().build());
+          .orElseGet(() -> OptionCtx.getOrDefault(OptionCtx.Key.TRACE_STOP_OPTION,
+              () -> TracingStopOption.builder().build()));
+
+      List<Object> argsList = Arrays.asList(args);
+      boolean testFailed = argsList.contains(ResourceOptionArg.TEST_FAILED);
+      if (argsList.contains(ResourceOptionArg.ASYNC_CLOSE)) {
+        ResourceTeardown.submit(() -> closeBrowserContext((BrowserContext) object, tracingStopOption, testFailed));
+      } else {
+        closeBrowserContext((BrowserContext) object, tracingStopOption, testFailed);
+      }
+      return;
+    }
+
+    // the owning pool may have been closed, and the singleton cleared, while the browser was checked out
+    BrowserPool owner = object instanceof Browser ? BrowserPool.ownerOf((Browser) object) : null;
+    if (owner != null) {
+      if (BrowserSingleton.getInstance() == object) {
+        BrowserSingleton.setInstance(null);
+      }
+      owner.release((Browser) object);
+      return;
+    }
 
-      ((BrowserContext) object).tracing().stop(tracingStopOption.forPlaywright());
+    BrowserPool browserPool = BrowserPoolSingleton.getInstance();
+
+    PlaywrightDispatcher.Lane lane = PlaywrightDispatcher.currentLane();
+    if (object instanceof Playwright && lane != null && lane.getPlaywright() == object) {
+      throw new PlaywrightException("Playwright driver is owned by the PlaywrightDispatcher. Close the dispatcher "
+          + "instead.");
+    }
+
+    if (object == browserPool) {
+      BrowserPoolSingleton.setInstance(null);
+    } else if (object == PlaywrightDispatcherSingleton.getInstance()) {
+      PlaywrightDispatcherSingleton.setInstance(null);
+    } else if (object == BrowserContextPoolSingleton.getInstance()) {
+      BrowserContextPoolSingleton.setInstance(null);
     }
     object.close();
   }
 
+  private static String resourceName(AutoCloseable object) {
+    if (object instanceof BrowserContext) {
+      return PlaywrightResource.BROWSER_CONTEXT.name();
+    } else if (object instanceof Browser) {
+      return PlaywrightResource.BROWSER.name();
+    } else if (object instanceof Playwright) {
+      return PlaywrightResource.PLAYWRIGHT.name();
+    } else if (object instanceof BrowserPool) {
+      return PlaywrightResource.BROWSER_POOL.name();
+    } else if (object instanceof BrowserContextPool) {
+      return PlaywrightResource.BROWSER_CONTEXT_POOL.name();
+    } else if (object instanceof PlaywrightDispatcher) {
+      return PlaywrightResource.PLAYWRIGHT_DISPATCHER.name();
+    }
+    return object.getClass().getSimpleName();
+  }
+
+  private static void closeBrowserContext(BrowserContext browserContext, TracingStopOption tracingStopOption,
+                                          boolean testFailed) {
+    ContextTracing.stop(browserContext, tracingStopOption, testFailed);
+
+    VideoRetention.close(browserContext, testFailed, () -> {
+      BrowserContextPool browserContextPool = BrowserContextPoolSingleton.getInstance();
+      if (browserContextPool != null && browserContextPool.isLeased(browserContext)) {
+        browserContextPool.release(browserContext);
+      } else {
+        ContextTracing.forget(browserContext);
+        browserContext.close();
+        PersistentProfiles.release(browserContext);
+      }
+    });
+  }
+
   private static Playwright createPlaywright(Object[] args) {
     List<ResourceOptionArg> argsList = Arrays.stream(args)
         .filter(arg -> arg instanceof ResourceOptionArg)
@@ -83,16 +202,10 @@ public interface PlaywrightResourceFactory {
       return PlaywrightSingleton.getInstance();
     }
 
-    PlaywrightOption options = Arrays.stream(args)
-        .filter(arg -> arg instanceof PlaywrightOption)
-        .map(arg -> (PlaywrightOption) arg)
-        .findFirst()
-        .orElse(OptionCtx.exists(OptionCtx.Key.PLAYWRIGHT_OPTION)
-            ? (PlaywrightOption) OptionCtx.getContext().get(OptionCtx.Key.PLAYWRIGHT_OPTION)
-            : PlaywrightOption.builder().build());
+    PlaywrightOption options = resolvePlaywrightOption(args);
+    Playwright prewarmed = PrewarmQueue.getInstance().takePlaywright(options);
 
-    // failsafe retry put in place to avoid rare occurrence of playwright driver failing to initialize at Runtime.
-    FailsafeRetry.tryAgain(() -> PlaywrightSingleton.setInstance(Playwright.create(options.forPlaywright())), 5, 1);
+    PlaywrightSingleton.setInstance(prewarmed != null ? prewarmed : BrowserLauncher.createPlaywright(options));
 
     OptionCtx.add(OptionCtx.Key.PLAYWRIGHT_OPTION, options);
 
@@ -109,26 +222,20 @@ public interface PlaywrightResourceFactory {
       return BrowserSingleton.getInstance();
     }
 
-    if (PlaywrightSingleton.getInstance() == null) {
-      throw new PlaywrightException("Playwright instance is not initialized. Please initialize Playwright before "
-          + "creating a Browser.");
-    }
-    Playwright playwright = PlaywrightSingleton.getInstance();
-
-    BrowserLaunchOption options = Arrays.stream(args)
-        .filter(arg -> arg instanceof BrowserLaunchOption)
-        .map(arg -> (BrowserLaunchOption) arg)
-        .findFirst()
-        .orElse(OptionCtx.exists(OptionCtx.Key.BROWSER_LAUNCH_OPTION)
-            ? (BrowserLaunchOption) OptionCtx.getContext().get(OptionCtx.Key.BROWSER_LAUNCH_OPTION)
-            : BrowserLaunchOption.builder().build());
+    BrowserLaunchOption options = resolveBrowserLaunchOption(args);
+    BrowserPool browserPool = BrowserPoolSingleton.getInstance();
+    Browser browser;
 
-    Browser browser = switch (options.getBrowser()) {
-      case "chromium", "chrome", "msedge" -> playwright.chromium().launch(options.forPlaywright());
-      case "firefox" -> playwright.firefox().launch(options.forPlaywright());
-      case "webkit" -> playwright.webkit().launch(options.forPlaywright());
-      default -> throw new PlaywrightException("Unsupported browser: " + options.getBrowser());
-    };
+    if (browserPool != null && !argsList.contains(ResourceOptionArg.NEW_BROWSER_INSTANCE)) {
+      browser = browserPool.checkout(options);
+    } else {
+      if (PlaywrightSingleton.getInstance() == null) {
+        throw new PlaywrightException("Playwright instance is not initialized. Please initialize Playwright before "
+            + "creating a Browser.");
+      }
+      Browser prewarmed = PrewarmQueue.getInstance().takeBrowser(PlaywrightSingleton.getInstance(), options);
+      browser = prewarmed != null ? prewarmed : BrowserLauncher.launch(PlaywrightSingleton.getInstance(), options);
+    }
 
     BrowserSingleton.setInstance(browser);
     OptionCtx.add(OptionCtx.Key.BROWSER_LAUNCH_OPTION, options);
@@ -136,33 +243,172 @@ public interface PlaywrightResourceFactory {
   }
 
   private static BrowserContext createBrowserContext(Object[] args) {
-    BrowserContextOption browserContextOption = Arrays.stream(args)
-        .filter(arg -> arg instanceof BrowserContextOption)
-        .map(arg -> (BrowserContextOption) arg)
-        .findFirst()
-        .orElse(OptionCtx.exists(OptionCtx.Key.BROWSER_CONTEXT_OPTION)
-            ? (BrowserContextOption) OptionCtx.getContext().get(OptionCtx.Key.BROWSER_CONTEXT_OPTION)
-            : BrowserContextOption.builder().build());
-
-    TracingStartOption tracingStartOption = Arrays.stream(args)
-        .filter(arg -> arg instanceof TracingStartOption)
-        .map(arg -> (TracingStartOption) arg)
-        .findFirst()
-        .orElse(OptionCtx.exists(OptionCtx.Key.TRACE_START_OPTION)
-            ? (TracingStartOption) OptionCtx.getContext().get(OptionCtx.Key.TRACE_START_OPTION)
-            : TracingStartOption.builder().build());
+    BrowserContextOption browserContextOption = resolveBrowserContextOption(args).sampleVideo();
+    TracingStartOption tracingStartOption = resolveTracingStartOption(args);
 
     if (BrowserSingleton.getInstance() == null) {
       throw new PlaywrightException("Browser instance is not initialized. Please initialize Browser before "
           + "creating a BrowserContext.");
     }
 
-    BrowserContext browserCtx = BrowserSingleton.getInstance().newContext(browserContextOption.forPlaywright());
-    browserCtx.tracing().start(tracingStartOption.forPlaywright());
+    BrowserContextPool browserContextPool = BrowserContextPoolSingleton.getInstance();
+    BrowserContext browserCtx = browserContextPool != null
+        ? browserContextPool.acquire(BrowserSingleton.getInstance(), browserContextOption)
+        : BrowserSingleton.getInstance().newContext(browserContextOption.forPlaywright());
+    attachRoutes(browserCtx, browserContextOption);
+    ContextTracing.start(browserCtx, tracingStartOption);
+    RequestTracker.attach(browserCtx);
+    VideoRetention.register(browserCtx, browserContextOption);
 
     OptionCtx.add(OptionCtx.Key.BROWSER_CONTEXT_OPTION, browserContextOption);
     OptionCtx.add(OptionCtx.Key.TRACE_START_OPTION, tracingStartOption);
 
     return browserCtx;
   }
+
+  private static BrowserContext createPersistentContext(Object[] args) {
+    if (PlaywrightSingleton.getInstance() == null) {
+      throw new PlaywrightException("Playwright instance is not initialized. Please initialize Playwright before "
+          + "creating a persistent BrowserContext.");
+    }
+
+    BrowserLaunchOption launchOption = resolveBrowserLaunchOption(args);
+    BrowserContextOption browserContextOption = resolveBrowserContextOption(args).sampleVideo();
+
+    PersistentProfiles.Profile profile = PersistentProfiles.claim(launchOption.getPersistentProfile(),
+        launchOption.getBrowser());
+    BrowserContext browserCtx;
+    try {
+      browserCtx = BrowserLauncher.launchPersistentContext(PlaywrightSingleton.getInstance(), launchOption,
+          browserContextOption, profile.directory());
+    } catch (RuntimeException e) {
+      profile.release();
+      throw e;
+    }
+    PersistentProfiles.register(browserCtx, profile);
+    attachRoutes(browserCtx, browserContextOption);
+    TracingStartOption tracingStartOption = resolveTracingStartOption(args);
+    ContextTracing.start(browserCtx, tracingStartOption);
+    RequestTracker.attach(browserCtx);
+    VideoRetention.register(browserCtx, browserContextOption);
+
+    OptionCtx.add(OptionCtx.Key.BROWSER_LAUNCH_OPTION, launchOption);
+    OptionCtx.add(OptionCtx.Key.BROWSER_CONTEXT_OPTION, browserContextOption);
+    OptionCtx.add(OptionCtx.Key.TRACE_START_OPTION, tracingStartOption);
+
+    return browserCtx;
+  }
+
+  private static void attachRoutes(BrowserContext browserCtx, BrowserContextOption browserContextOption) {
+    if (browserContextOption.getAssetCache() != null) {
+      AssetCache.forOption(browserContextOption.getAssetCache()).attach(browserCtx);
+    }
+    if (!browserContextOption.getRoutingProfiles().isEmpty()) {
+      // routes run in reverse registration order, so blocked requests never reach the asset cache
+      RoutingMatcher.compile(browserContextOption.getRoutingProfiles()).attach(browserCtx);
+    }
+  }
+
+  private static BrowserPool createBrowserPool(Object[] args) {
+    synchronized (BrowserPoolSingleton.class) {
+      if (BrowserPoolSingleton.getInstance() != null) {
+        return BrowserPoolSingleton.getInstance();
+      }
+
+      BrowserPoolOption poolOption = Arrays.stream(args)
+          .filter(arg -> arg instanceof BrowserPoolOption)
+          .map(arg -> (BrowserPoolOption) arg)
+          .findFirst()
+          .orElse(BrowserPoolOption.builder().build());
+
+      BrowserPoolSingleton.setInstance(new BrowserPool(poolOption, resolvePlaywrightOption(args),
+          resolveBrowserLaunchOption(args)));
+      linkPools();
+      return BrowserPoolSingleton.getInstance();
+    }
+  }
+
+  private static BrowserContextPool createBrowserContextPool(Object[] args) {
+    synchronized (BrowserPoolSingleton.class) {
+      if (BrowserContextPoolSingleton.getInstance() != null) {
+        return BrowserContextPoolSingleton.getInstance();
+      }
+
+      BrowserContextPoolOption poolOption = Arrays.stream(args)
+          .filter(arg -> arg instanceof BrowserContextPoolOption)
+          .map(arg -> (BrowserContextPoolOption) arg)
+          .findFirst()
+          .orElse(BrowserContextPoolOption.builder().build());
+
+      BrowserContextPoolSingleton.setInstance(new BrowserContextPool(poolOption));
+      linkPools();
+      return BrowserContextPoolSingleton.getInstance();
+    }
+  }
+
+  private static PlaywrightDispatcher createPlaywrightDispatcher(Object[] args) {
+    synchronized (PlaywrightDispatcherSingleton.class) {
+      if (PlaywrightDispatcherSingleton.getInstance() != null) {
+        return PlaywrightDispatcherSingleton.getInstance();
+      }
+
+      PlaywrightDispatcherOption dispatcherOption = Arrays.stream(args)
+          .filter(arg -> arg instanceof PlaywrightDispatcherOption)
+          .map(arg -> (PlaywrightDispatcherOption) arg)
+          .findFirst()
+          .orElse(PlaywrightDispatcherOption.builder().build());
+
+      PlaywrightDispatcherSingleton.setInstance(new PlaywrightDispatcher(dispatcherOption,
+          resolvePlaywrightOption(args)));
+      return PlaywrightDispatcherSingleton.getInstance();
+    }
+  }
+
+  /**
+   * Let the BrowserPool refill BrowserContexts in the background while a returned browser is idle.
+   */
+  private static void linkPools() {
+    BrowserPool browserPool = BrowserPoolSingleton.getInstance();
+    BrowserContextPool browserContextPool = BrowserContextPoolSingleton.getInstance();
+    if (browserPool != null && browserContextPool != null) {
+      browserPool.setReleaseHook(browserContextPool::refill);
+      browserContextPool.setRefilledByBrowserPool(true);
+    }
+  }
+
+  private static PlaywrightOption resolvePlaywrightOption(Object[] args) {
+    return Arrays.stream(args)
+        .filter(arg -> arg instanceof PlaywrightOption)
+        .map(arg -> (PlaywrightOption) arg)
+        .findFirst()
+        .orElseGet(() -> OptionCtx.getOrDefault(OptionCtx.Key.PLAYWRIGHT_OPTION,
+            () -> PlaywrightOption.builder().build()));
+  }
+
+  private static BrowserLaunchOption resolveBrowserLaunchOption(Object[] args) {
+    return Arrays.stream(args)
+        .filter(arg -> arg instanceof BrowserLaunchOption)
+        .map(arg -> (BrowserLaunchOption) arg)
+        .findFirst()
+        .orElseGet(() -> OptionCtx.getOrDefault(OptionCtx.Key.BROWSER_LAUNCH_OPTION,
+            () -> BrowserLaunchOption.builder().build()));
+  }
+
+  private static BrowserContextOption resolveBrowserContextOption(Object[] args) {
+    return Arrays.stream(args)
+        .filter(arg -> arg instanceof BrowserContextOption)
+        .map(arg -> (BrowserContextOption) arg)
+        .findFirst()
+        .orElseGet(() -> OptionCtx.getOrDefault(OptionCtx.Key.BROWSER_CONTEXT_OPTION,
+            () -> BrowserContextOption.builder().build()));
+  }
+
+  private static TracingStartOption resolveTracingStartOption(Object[] args) {
+    return Arrays.stream(args)
+        .filter(arg -> arg instanceof TracingStartOption)
+        .map(arg -> (TracingStartOption) arg)
+        .findFirst()
+        .orElseGet(() -> OptionCtx.getOrDefault(OptionCtx.Key.TRACE_START_OPTION,
+            () -> TracingStartOption.builder().build()));
+  }
 }
@@ -0,0 +1,210 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+import lombok.extern.slf4j.Slf4j;
+import org.playwright.core.options.BrowserLaunchOption;
+import org.playwright.core.options.PlaywrightOption;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Playwright drivers with a launched Browser, started in the background before the first tests need them. <br><br>
+ *
+ * <p>{@link PlaywrightResourceFactory#prewarm(int, Object...)} starts the instances. A thread creating the PLAYWRIGHT
+ * resource with the same PlaywrightOption takes a ready driver instead of starting one, waiting for one still starting
+ * rather than paying the full start itself; its next BROWSER resource with the same BrowserLaunchOption is the browser
+ * launched by that driver. Each pair is handed to exactly one thread, which then owns it like any other Playwright
+ * resource.</p>
+ */
+@Slf4j
+public final class PrewarmQueue {
+  private static final PrewarmQueue INSTANCE = new PrewarmQueue(BrowserLauncher::createPlaywright,
+      BrowserLauncher::launch);
+  private static final long POLL_MILLIS = 100;
+
+  private final Function<PlaywrightOption, Playwright> driverFactory;
+  private final BiFunction<Playwright, BrowserLaunchOption, Browser> browserLauncher;
+  private final BlockingQueue<Warm> ready = new LinkedBlockingQueue<>();
+  private final ThreadLocal<Warm> claimed = new ThreadLocal<>();
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicInteger generation = new AtomicInteger();
+  private final LongAdder taken = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private volatile PlaywrightOption playwrightOption;
+  private volatile BrowserLaunchOption launchOption;
+  private boolean shutdownHookAdded;
+  private ExecutorService executor;
+
+  PrewarmQueue(Function<PlaywrightOption, Playwright> driverFactory,
+               BiFunction<Playwright, BrowserLaunchOption, Browser> browserLauncher) {
+    this.driverFactory = driverFactory;
+    this.browserLauncher = browserLauncher;
+  }
+
+  public static PrewarmQueue getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Start Playwright drivers with a launched Browser in the background. Instances prewarmed earlier with other options
+   * are discarded.
+   *
+   * @param count            number of driver and browser pairs to start
+   * @param playwrightOption options of the drivers
+   * @param launchOption     options of the browsers
+   */
+  public synchronized void start(int count, PlaywrightOption playwrightOption, BrowserLaunchOption launchOption) {
+    if (!playwrightOption.equals(this.playwrightOption) || !launchOption.equals(this.launchOption)) {
+      discard();
+      this.playwrightOption = playwrightOption;
+      this.launchOption = launchOption;
+    }
+    if (!shutdownHookAdded) {
+      Runtime.getRuntime().addShutdownHook(new Thread(this::discard, "playwright-prewarm-discard"));
+      shutdownHookAdded = true;
+    }
+    if (executor == null) {
+      AtomicInteger threads = new AtomicInteger();
+      executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "playwright-prewarm-" + threads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+
+    int startedGeneration = generation.get();
+    log.info("PrewarmQueue: starting {} Playwright drivers with a {} browser.", count, launchOption.getBrowser());
+    for (int i = 0; i < count; i++) {
+      pending.incrementAndGet();
+      executor.execute(() -> warmUp(startedGeneration, playwrightOption, launchOption));
+    }
+  }
+
+  /**
+   * Close every prewarmed instance that was not taken yet. Instances still starting are closed once started.
+   */
+  public void discard() {
+    generation.incrementAndGet();
+    List<Warm> unused = new ArrayList<>();
+    ready.drainTo(unused);
+    unused.forEach(Warm::close);
+  }
+
+  /**
+   * Number of prewarmed instances ready to be taken.
+   *
+   * @return ready instances
+   */
+  public int getReady() {
+    return ready.size();
+  }
+
+  public int getPending() {
+    return pending.get();
+  }
+
+  public long getTaken() {
+    return taken.sum();
+  }
+
+  public long getFailed() {
+    return failed.sum();
+  }
+
+  /**
+   * Take a prewarmed driver started with the given options, waiting while instances are still starting.
+   *
+   * @param option options the caller would start its driver with
+   * @return driver, now owned by the calling thread, or null when none was prewarmed with these options
+   */
+  Playwright takePlaywright(PlaywrightOption option) {
+    if (!option.equals(playwrightOption)) {
+      return null;
+    }
+
+    try {
+      Warm warm = ready.poll();
+      while (warm == null && pending.get() > 0) {
+        warm = ready.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+      }
+      if (warm == null) {
+        return null;
+      }
+      taken.increment();
+      claimed.set(warm);
+      return warm.playwright();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    }
+  }
+
+  /**
+   * Take the browser launched by the driver the calling thread took from this queue.
+   *
+   * @param playwright driver of the calling thread
+   * @param option     options the caller would launch its browser with
+   * @return browser, or null when the driver was not prewarmed or the options differ
+   */
+  Browser takeBrowser(Playwright playwright, BrowserLaunchOption option) {
+    Warm warm = claimed.get();
+    if (warm == null || warm.playwright() != playwright) {
+      return null;
+    }
+
+    claimed.remove();
+    if (option.equals(warm.launchOption()) && warm.browser().isConnected()) {
+      return warm.browser();
+    }
+    closeQuietly(warm.browser());
+    return null;
+  }
+
+  private void warmUp(int startedGeneration, PlaywrightOption playwrightOption, BrowserLaunchOption launchOption) {
+    Playwright playwright = null;
+    try {
+      playwright = driverFactory.apply(playwrightOption);
+      Warm warm = new Warm(playwright, browserLauncher.apply(playwright, launchOption), launchOption);
+      ready.offer(warm);
+      // discarded while starting, unless a thread already took it
+      if (startedGeneration != generation.get() && ready.remove(warm)) {
+        warm.close();
+      }
+    } catch (RuntimeException e) {
+      failed.increment();
+      log.warn("PrewarmQueue: unable to prewarm a Playwright driver and browser.", e);
+      closeQuietly(playwright);
+    } finally {
+      pending.decrementAndGet();
+    }
+  }
+
+  private static void closeQuietly(AutoCloseable closeable) {
+    if (closeable == null) {
+      return;
+    }
+    try {
+      closeable.close();
+    } catch (Exception e) {
+      log.debug("PrewarmQueue: unable to close prewarmed instance.", e);
+    }
+  }
+
+  private record Warm(Playwright playwright, Browser browser, BrowserLaunchOption launchOption) {
+    void close() {
+      closeQuietly(browser);
+      closeQuietly(playwright);
+    }
+  }
+}
@@ -0,0 +1,204 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.PlaywrightException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded pipeline for asynchronous resource teardown (tracing stop, video finalization, close). <br><br>
+ *
+ * <p>Teardowns run on dedicated {@code resource-teardown} threads, so the closing thread goes on while trace and video
+ * files are written. When the number of pending teardowns reaches {@link #getMaxPending()}, callers block until a slot
+ * frees up (backpressure).</p>
+ *
+ * <p>Playwright objects may only be used by one thread at a time, so a teardown is a handoff: the teardowns submitted
+ * by a thread run one at a time, in order, and {@link #awaitHandoff()} waits until they are done, handing the thread's
+ * Playwright objects back. The factory calls it before every create and close, and a PlaywrightDispatcher lane before
+ * every work item; code using Playwright objects directly after an asynchronous close must call it first.</p>
+ *
+ * <p>Call {@link #flush()} or {@link #awaitQuiescence(Duration)} before the JVM exits to make sure every trace and video
+ * has been written.</p>
+ */
+@Slf4j
+public final class ResourceTeardown {
+  private static final ReentrantLock LOCK = new ReentrantLock();
+  private static final Condition NOT_FULL = LOCK.newCondition();
+  private static final Condition IDLE = LOCK.newCondition();
+  private static final ThreadLocal<CompletableFuture<Void>> HANDOFF = new ThreadLocal<>();
+  private static final ThreadLocal<Boolean> IN_TEARDOWN = ThreadLocal.withInitial(() -> false);
+  private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+    private final AtomicInteger threads = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "resource-teardown-" + threads.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  });
+  private static int pending;
+  private static volatile int maxPending = 64;
+
+  private ResourceTeardown() {
+    throw new PlaywrightException("ResourceTeardown should not be instantiated!");
+  }
+
+  public static int getMaxPending() {
+    return maxPending;
+  }
+
+  /**
+   * Set the maximum number of teardowns that may be pending at once.
+   *
+   * @param maxPending maximum pending teardowns, at least 1
+   */
+  public static void setMaxPending(int maxPending) {
+    if (maxPending < 1) {
+      throw new PlaywrightException("maxPending must be at least 1.");
+    }
+    LOCK.lock();
+    try {
+      ResourceTeardown.maxPending = maxPending;
+      NOT_FULL.signalAll();
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  /**
+   * Number of teardowns queued or running.
+   *
+   * @return pending teardowns
+   */
+  public static int getPending() {
+    LOCK.lock();
+    try {
+      return pending;
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  /**
+   * Queue a teardown of resources owned by the calling thread. Blocks while {@link #getMaxPending()} teardowns are
+   * pending. The teardown runs after the ones previously submitted by this thread. Called from a teardown, it runs
+   * inline: the teardown thread already holds the handoff.
+   *
+   * @param teardown teardown steps
+   */
+  public static void submit(Runnable teardown) {
+    if (IN_TEARDOWN.get()) {
+      teardown.run();
+      return;
+    }
+
+    acquireSlot();
+    CompletableFuture<Void> previous = HANDOFF.get();
+    try {
+      HANDOFF.set((previous != null ? previous : CompletableFuture.<Void>completedFuture(null))
+          .thenRunAsync(() -> run(teardown), EXECUTOR));
+    } catch (RejectedExecutionException e) {
+      releaseSlot();
+      throw new PlaywrightException("ResourceTeardown is not accepting work.", e);
+    }
+  }
+
+  /**
+   * Wait until the teardowns submitted by the calling thread have completed, so its Playwright objects may be used again.
+   */
+  public static void awaitHandoff() {
+    CompletableFuture<Void> handoff = HANDOFF.get();
+    if (handoff != null) {
+      handoff.join();
+      HANDOFF.remove();
+    }
+  }
+
+  /**
+   * Wait until every pending teardown has completed.
+   */
+  public static void flush() {
+    if (!awaitQuiescence(null)) {
+      throw new PlaywrightException("Interrupted while waiting for resource teardown.");
+    }
+  }
+
+  /**
+   * Wait until every pending teardown has completed or the timeout elapses.
+   *
+   * @param timeout maximum time to wait, null to wait indefinitely
+   * @return true when no teardown is pending anymore
+   */
+  public static boolean awaitQuiescence(Duration timeout) {
+    LOCK.lock();
+    try {
+      long remaining = timeout == null ? Long.MAX_VALUE : timeout.toNanos();
+      while (pending > 0) {
+        if (remaining <= 0) {
+          return false;
+        }
+        remaining = timeout == null ? awaitIdle() : IDLE.awaitNanos(remaining);
+      }
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  private static long awaitIdle() throws InterruptedException {
+    IDLE.await();
+    return Long.MAX_VALUE;
+  }
+
+  private static void acquireSlot() {
+    LOCK.lock();
+    try {
+      while (pending >= maxPending) {
+        NOT_FULL.await();
+      }
+      pending++;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PlaywrightException("Interrupted while waiting for a resource teardown slot.", e);
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  private static void run(Runnable teardown) {
+    IN_TEARDOWN.set(true);
+    try {
+      teardown.run();
+    } catch (RuntimeException e) {
+      log.warn("ResourceTeardown: teardown failed. Absorbing exception.", e);
+    } finally {
+      IN_TEARDOWN.set(false);
+      releaseSlot();
+    }
+  }
+
+  private static void releaseSlot() {
+    LOCK.lock();
+    try {
+      pending--;
+      NOT_FULL.signalAll();
+      if (pending == 0) {
+        IDLE.signalAll();
+      }
+    } finally {
+      LOCK.unlock();
+    }
+  }
+}
@@ -0,0 +1,251 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import lombok.extern.slf4j.Slf4j;
+import org.playwright.core.options.RoutingProfile;
+import org.playwright.core.options.RoutingStub;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Compiled form of a list of {@link RoutingProfile}s. <br><br>
+ *
+ * <p>All profiles are merged once into a resource type set, a trie of blocked hosts and one combined pattern for the
+ * blocked url globs and one for the stubs, so routing a request costs a few lookups and two regex matches however many
+ * rules there are. Compiled matchers are cached per list of profiles.</p>
+ */
+@Slf4j
+public final class RoutingMatcher {
+  private static final Map<List<RoutingProfile>, RoutingMatcher> COMPILED = new ConcurrentHashMap<>();
+  private static final Decision CONTINUE = new Decision(Action.CONTINUE, null);
+  private static final Decision BLOCK = new Decision(Action.BLOCK, null);
+
+  private final Set<String> blockedResourceTypes = new HashSet<>();
+  private final HostTrie blockedHosts = new HostTrie();
+  private final Pattern blockedUrls;
+  private final Pattern stubUrls;
+  private final List<RoutingStub> stubs = new ArrayList<>();
+  private final Set<BrowserContext> routed = Collections.synchronizedSet(
+      Collections.newSetFromMap(new WeakHashMap<>()));
+  private final LongAdder blocked = new LongAdder();
+  private final LongAdder stubbed = new LongAdder();
+
+  private RoutingMatcher(List<RoutingProfile> profiles) {
+    List<String> blockedGlobs = new ArrayList<>();
+    for (RoutingProfile profile : profiles) {
+      blockedResourceTypes.addAll(profile.getBlockResourceTypes());
+      profile.getBlockHosts().forEach(blockedHosts::add);
+      blockedGlobs.addAll(profile.getBlockUrlGlobs());
+      stubs.addAll(profile.getStubs());
+    }
+
+    blockedUrls = combine(blockedGlobs, false);
+    stubUrls = combine(stubs.stream().map(RoutingStub::getUrlGlob).collect(Collectors.toList()), true);
+    log.debug("RoutingMatcher: compiled profiles {}.", profiles.stream().map(RoutingProfile::getName).toList());
+  }
+
+  /**
+   * Compiled matcher of the given profiles, cached.
+   *
+   * @param profiles routing profiles
+   * @return RoutingMatcher
+   */
+  public static RoutingMatcher compile(List<RoutingProfile> profiles) {
+    return COMPILED.computeIfAbsent(List.copyOf(profiles), RoutingMatcher::new);
+  }
+
+  /**
+   * Route every request of a context through this matcher. Attaching the same context again is a no-op. Requests
+   * that are neither blocked nor stubbed fall back to the routes registered before.
+   *
+   * @param context BrowserContext
+   */
+  public void attach(BrowserContext context) {
+    if (routed.add(context)) {
+      context.route("**/*", this::handle);
+    }
+  }
+
+  /**
+   * Decide what to do with a request.
+   *
+   * @param url          request url
+   * @param resourceType request resource type
+   * @return decision
+   */
+  public Decision match(String url, String resourceType) {
+    if (stubUrls != null) {
+      Matcher matcher = stubUrls.matcher(url);
+      if (matcher.matches()) {
+        for (int group = 1; group <= matcher.groupCount(); group++) {
+          if (matcher.start(group) >= 0) {
+            return new Decision(Action.STUB, stubs.get(group - 1));
+          }
+        }
+      }
+    }
+
+    if (blockedResourceTypes.contains(resourceType)
+        || blockedHosts.matches(host(url))
+        || blockedUrls != null && blockedUrls.matcher(url).matches()) {
+      return BLOCK;
+    }
+    return CONTINUE;
+  }
+
+  public long getBlocked() {
+    return blocked.sum();
+  }
+
+  public long getStubbed() {
+    return stubbed.sum();
+  }
+
+  private void handle(Route route) {
+    Request request = route.request();
+    Decision decision = match(request.url(), request.resourceType());
+
+    switch (decision.action()) {
+      case BLOCK -> {
+        blocked.increment();
+        route.abort("blockedbyclient");
+      }
+      case STUB -> {
+        stubbed.increment();
+        route.fulfill(new Route.FulfillOptions()
+            .setStatus(decision.stub().getStatus())
+            .setContentType(decision.stub().getContentType())
+            .setBody(decision.stub().getBody()));
+      }
+      default -> route.fallback();
+    }
+  }
+
+  /**
+   * One pattern matching any of the globs. With {@code capturing}, glob i is captured by group i + 1.
+   */
+  private static Pattern combine(List<String> globs, boolean capturing) {
+    if (globs.isEmpty()) {
+      return null;
+    }
+    return Pattern.compile(globs.stream()
+        .map(glob -> (capturing ? "(" : "(?:") + globToRegex(glob) + ")")
+        .collect(Collectors.joining("|")));
+  }
+
+  /**
+   * Regex of a url glob: "**" matches any characters, "*" any characters but "/", "?" one character and "{a,b}" either
+   * alternative. The regex has no capturing group.
+   */
+  static String globToRegex(String glob) {
+    StringBuilder regex = new StringBuilder();
+    boolean inGroup = false;
+    for (int i = 0; i < glob.length(); i++) {
+      char c = glob.charAt(i);
+      switch (c) {
+        case '*' -> {
+          if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+            regex.append(".*");
+            i++;
+          } else {
+            regex.append("[^/]*");
+          }
+        }
+        case '?' -> regex.append('.');
+        case '{' -> {
+          inGroup = true;
+          regex.append("(?:");
+        }
+        case '}' -> {
+          inGroup = false;
+          regex.append(')');
+        }
+        case ',' -> regex.append(inGroup ? "|" : ",");
+        default -> regex.append(Pattern.quote(String.valueOf(c)));
+      }
+    }
+    return regex.toString();
+  }
+
+  /**
+   * Host of a url, without parsing the whole url.
+   */
+  static String host(String url) {
+    int start = url.indexOf("://");
+    start = start < 0 ? 0 : start + 3;
+    int end = start;
+    while (end < url.length() && "/:?#".indexOf(url.charAt(end)) < 0) {
+      end++;
+    }
+    int userInfo = url.lastIndexOf('@', end - 1);
+    return url.substring(Math.max(start, userInfo + 1), end).toLowerCase(Locale.ROOT);
+  }
+
+  public enum Action {
+    CONTINUE,
+    BLOCK,
+    STUB
+  }
+
+  /**
+   * What to do with a request; {@code stub} is set for {@link Action#STUB}.
+   */
+  public record Decision(Action action, RoutingStub stub) {
+  }
+
+  /**
+   * Trie of reversed host labels: a host matches when it or one of its parent domains was added.
+   */
+  private static final class HostTrie {
+    private final Node root = new Node();
+
+    void add(String host) {
+      Node node = root;
+      String[] labels = host.toLowerCase(Locale.ROOT).split("\\.");
+      for (int i = labels.length - 1; i >= 0; i--) {
+        node = node.children.computeIfAbsent(labels[i], label -> new Node());
+      }
+      node.terminal = true;
+    }
+
+    boolean matches(String host) {
+      Node node = root;
+      int end = host.length();
+      while (!node.children.isEmpty()) {
+        int dot = host.lastIndexOf('.', end - 1);
+        node = node.children.get(host.substring(dot + 1, end));
+        if (node == null) {
+          return false;
+        }
+        if (node.terminal) {
+          return true;
+        }
+        if (dot < 0) {
+          return false;
+        }
+        end = dot;
+      }
+      return false;
+    }
+
+    private static final class Node {
+      private final Map<String, Node> children = new HashMap<>();
+      private boolean terminal;
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Video;
+import lombok.extern.slf4j.Slf4j;
+import org.playwright.core.options.BrowserContextOption;
+import org.playwright.core.options.VideoPolicy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Applies the {@link VideoPolicy} of a BrowserContext when it is closed. <br><br>
+ *
+ * <p>Videos of passing tests recorded under {@link VideoPolicy#RETAIN_ON_FAILURE} are deleted in the background once the
+ * context is closed. Videos are collected as pages open, so pages the test already closed are covered too. Deletion is
+ * plain file I/O, so it never touches Playwright objects off their owner thread.</p>
+ */
+@Slf4j
+final class VideoRetention {
+  private static final Map<BrowserContext, List<Video>> RETAINED_ON_FAILURE = new ConcurrentHashMap<>();
+  private static final Set<BrowserContext> ATTACHED = Collections.synchronizedSet(
+      Collections.newSetFromMap(new WeakHashMap<>()));
+  private static final ExecutorService CLEANUP = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "video-cleanup");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private VideoRetention() {
+    throw new PlaywrightException("VideoRetention should not be instantiated!");
+  }
+
+  /**
+   * Remember the video policy of a context handed out to a test, and collect the videos of its pages from now on.
+   *
+   * @param browserContext       context
+   * @param browserContextOption options the context was created with
+   */
+  static void register(BrowserContext browserContext, BrowserContextOption browserContextOption) {
+    if (browserContextOption.getVideoPolicy() != VideoPolicy.RETAIN_ON_FAILURE) {
+      RETAINED_ON_FAILURE.remove(browserContext);
+      return;
+    }
+
+    List<Video> videos = new CopyOnWriteArrayList<>();
+    RETAINED_ON_FAILURE.put(browserContext, videos);
+    browserContext.pages().forEach(page -> record(browserContext, page));
+    // a pooled context is registered again for every test; its listener looks up the current videos
+    if (ATTACHED.add(browserContext)) {
+      browserContext.onPage(page -> record(browserContext, page));
+    }
+  }
+
+  /**
+   * Close (or release) the context and discard its videos when the policy does not keep them.
+   *
+   * @param browserContext context
+   * @param testFailed     whether the test failed
+   * @param close          action closing or releasing the context, which finalizes the videos
+   */
+  static void close(BrowserContext browserContext, boolean testFailed, Runnable close) {
+    List<Video> recorded = RETAINED_ON_FAILURE.remove(browserContext);
+    List<Path> videos = recorded != null && !testFailed ? videoPaths(recorded) : List.of();
+
+    close.run();
+
+    if (!videos.isEmpty()) {
+      CLEANUP.execute(() -> videos.forEach(VideoRetention::delete));
+    }
+  }
+
+  private static void record(BrowserContext browserContext, Page page) {
+    List<Video> videos = RETAINED_ON_FAILURE.get(browserContext);
+    Video video = videos != null ? page.video() : null;
+    if (video != null) {
+      videos.add(video);
+    }
+  }
+
+  private static List<Path> videoPaths(List<Video> recorded) {
+    List<Path> videos = new ArrayList<>();
+    for (Video video : recorded) {
+      try {
+        videos.add(video.path());
+      } catch (PlaywrightException e) {
+        log.debug("VideoRetention: video path not available for page, it won't be deleted.", e);
+      }
+    }
+    return videos;
+  }
+
+  private static void delete(Path video) {
+    try {
+      Files.deleteIfExists(video);
+    } catch (IOException e) {
+      log.warn("VideoRetention: unable to delete video {}.", video, e);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package org.playwright.core.options;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * Options of the on-disk {@link org.playwright.core.AssetCache}. Contexts using the same directory share one cache.
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class AssetCacheOption {
+  /**
+   * Cache directory. Defaults to a user cache directory, so the cache survives {@code mvn clean} and is shared by the
+   * projects of the machine.
+   */
+  @Builder.Default
+  Path directory = Path.of(System.getProperty("user.home"), ".cache", "playwright-asset-cache");
+
+  /**
+   * Max total size of the cached bodies. Least recently used assets are evicted first.
+   */
+  @Builder.Default
+  long maxBytes = 512L * 1024 * 1024;
+
+  /**
+   * Resource types served from the cache. Other requests go to the network untouched.
+   */
+  @Builder.Default
+  Set<String> resourceTypes = Set.of("script", "stylesheet", "font", "image");
+
+  /**
+   * Glob of the urls routed through the cache.
+   */
+  @Builder.Default
+  String urlGlob = "**/*";
+}
@@ -7,6 +7,7 @@ import lombok.extern.jackson.Jacksonized;
 
 import java.awt.Dimension;
 import java.nio.file.Paths;
+import java.util.List;
 
 @Value
 @Builder(toBuilder = true)
@@ -18,11 +19,50 @@ public class BrowserContextOption implements IOption<Browser.NewContextOptions>
   @Builder.Default
   Dimension dimension = new Dimension(1920, 1080);
 
+  @Builder.Default
+  VideoPolicy videoPolicy = VideoPolicy.ALWAYS;
+
+  @Builder.Default
+  int videoSamplePercent = 10;
+
+  /**
+   * Video resolution, independent of the viewport. Defaults to the viewport dimension; a smaller size reduces the video
+   * encoding cost considerably.
+   */
+  Dimension recordVideoDimension;
+
+  /**
+   * Serve static assets from a local disk cache shared across contexts, threads and runs. Disabled when null.
+   */
+  AssetCacheOption assetCache;
+
+  /**
+   * Request blocking and stubbing profiles, see {@link RoutingProfile}.
+   */
+  @Builder.Default
+  List<RoutingProfile> routingProfiles = List.of();
+
   @Override
   public Browser.NewContextOptions forPlaywright() {
-    return new Browser.NewContextOptions()
-        .setViewportSize(dimension.width, dimension.height)
-        .setRecordVideoDir(Paths.get(recordVideoDir))
-        .setRecordVideoSize(dimension.width, dimension.height);
+    Browser.NewContextOptions options = new Browser.NewContextOptions()
+        .setViewportSize(dimension.width, dimension.height);
+
+    if (videoPolicy.records()) {
+      Dimension videoDimension = recordVideoDimension != null ? recordVideoDimension : dimension;
+      options.setRecordVideoDir(Paths.get(recordVideoDir))
+          .setRecordVideoSize(videoDimension.width, videoDimension.height);
+    }
+
+    return options;
+  }
+
+  /**
+   * Options for one new BrowserContext, with {@link VideoPolicy#SAMPLED} decided once for it.
+   *
+   * @return these options, or a copy recording video {@link VideoPolicy#ALWAYS} or {@link VideoPolicy#OFF}
+   */
+  public BrowserContextOption sampleVideo() {
+    VideoPolicy sampled = videoPolicy.sample(videoSamplePercent);
+    return sampled == videoPolicy ? this : toBuilder().videoPolicy(sampled).build();
   }
 }
@@ -0,0 +1,29 @@
+package org.playwright.core.options;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Sizing options for the {@link org.playwright.core.BrowserContextPool}. Sizes apply per browser and
+ * {@link BrowserContextOption} combination.
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class BrowserContextPoolOption {
+  @Builder.Default
+  int readyContexts = 2;
+
+  @Builder.Default
+  int maxIdleContexts = 4;
+
+  /**
+   * Reset released contexts and hand them out again, instead of closing them. Off by default: a reset closes pages
+   * (dropping their sessionStorage), clears cookies and permissions, extra HTTP headers, offline mode and geolocation,
+   * and discards contexts with local storage, but init scripts, exposed bindings, routes added by the test, IndexedDB
+   * and service workers can't be undone and leak into the next test. Only enable it for suites that don't use those.
+   */
+  @Builder.Default
+  boolean reuseReleasedContexts = false;
+}
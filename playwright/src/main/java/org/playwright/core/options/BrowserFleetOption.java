@@ -0,0 +1,47 @@
+package org.playwright.core.options;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Options of a {@link org.playwright.core.BrowserFleet}, the local Chromium processes shared by all JVMs of the host.
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class BrowserFleetOption {
+  /**
+   * Directory the endpoints are registered in. JVMs connect to the fleet through {@link BrowserLaunchOption#getFleet()}.
+   * Defaults to {@code browser-fleet} in the user's cache directory, outside the build output, so a {@code mvn clean}
+   * doesn't delete the endpoint and lock files of browsers that are still running.
+   */
+  @Builder.Default
+  Path directory = Path.of(System.getProperty("user.home"), ".cache", "browser-fleet");
+
+  /**
+   * Number of browsers, i.e. the number of Browser resources that can be connected at once across all JVMs.
+   */
+  @Builder.Default
+  int size = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+  /**
+   * Chromium executable. Defaults to the Chromium installed by Playwright when null.
+   */
+  Path executablePath;
+
+  /**
+   * Extra command line arguments of every browser.
+   */
+  @Builder.Default
+  List<String> args = List.of("--headless=new");
+
+  /**
+   * How long a browser may take to open its DevTools endpoint.
+   */
+  @Builder.Default
+  long startTimeoutMillis = 30000;
+}
@@ -1,10 +1,13 @@
 package org.playwright.core.options;
 
+import com.microsoft.playwright.Browser;
 import com.microsoft.playwright.BrowserType;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
 
+import java.nio.file.Path;
+
 @Value
 @Builder(toBuilder = true)
 @Jacksonized
@@ -21,6 +24,28 @@ public class BrowserLaunchOption implements IOption<BrowserType.LaunchOptions> {
   @Builder.Default
   double browserStartTimeout = 30000;
 
+  /**
+   * User data directories of the PERSISTENT_CONTEXT resource. Ignored by the BROWSER resource.
+   */
+  @Builder.Default
+  PersistentProfileOption persistentProfile = PersistentProfileOption.builder().build();
+
+  /**
+   * Connect to this already running browser instead of launching one: a CDP endpoint ({@code http://host:port} or the
+   * {@code ws://} DevTools url) of a Chromium browser, or the {@code ws://} endpoint of a Playwright browser server when
+   * {@link #connectOverCdp} is false. Closing the Browser disconnects from it.
+   */
+  String endpoint;
+
+  @Builder.Default
+  boolean connectOverCdp = true;
+
+  /**
+   * Directory of a {@link org.playwright.core.BrowserFleet} to take a free browser endpoint from, instead of launching
+   * a browser. Only for Chromium based browsers; ignored when {@link #endpoint} is set.
+   */
+  Path fleet;
+
   @Override
   public BrowserType.LaunchOptions forPlaywright() {
     BrowserType.LaunchOptions launchOptions = new BrowserType.LaunchOptions()
@@ -34,4 +59,50 @@ public class BrowserLaunchOption implements IOption<BrowserType.LaunchOptions> {
 
     return launchOptions;
   }
+
+  /**
+   * Options to connect to the Playwright browser server at {@link #endpoint}.
+   *
+   * @return connect options
+   */
+  public BrowserType.ConnectOptions forConnect() {
+    return new BrowserType.ConnectOptions()
+        .setSlowMo(slowmo)
+        .setTimeout(browserStartTimeout);
+  }
+
+  /**
+   * Options to connect to a Chromium browser over CDP, at {@link #endpoint} or an endpoint of a fleet.
+   *
+   * @return connect over CDP options
+   */
+  public BrowserType.ConnectOverCDPOptions forConnectOverCdp() {
+    return new BrowserType.ConnectOverCDPOptions()
+        .setSlowMo(slowmo)
+        .setTimeout(browserStartTimeout);
+  }
+
+  /**
+   * Options of a persistent context, which is launched and configured in one step: these launch options combined with
+   * the given context options.
+   *
+   * @param browserContextOption context options
+   * @return persistent context options
+   */
+  public BrowserType.LaunchPersistentContextOptions forPersistentContext(BrowserContextOption browserContextOption) {
+    BrowserType.LaunchPersistentContextOptions options = new BrowserType.LaunchPersistentContextOptions()
+        .setHeadless(headless)
+        .setSlowMo(slowmo)
+        .setTimeout(browserStartTimeout);
+
+    if ("chrome".equalsIgnoreCase(browser) || "msedge".equalsIgnoreCase(browser)) {
+      options.setChannel(browser);
+    }
+
+    Browser.NewContextOptions contextOptions = browserContextOption.forPlaywright();
+    options.viewportSize = contextOptions.viewportSize;
+    options.recordVideoDir = contextOptions.recordVideoDir;
+    options.recordVideoSize = contextOptions.recordVideoSize;
+    return options;
+  }
 }
@@ -0,0 +1,22 @@
+package org.playwright.core.options;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Sizing options for the shared {@link org.playwright.core.BrowserPool}. Sizes apply to each browser type sub-pool.
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class BrowserPoolOption {
+  @Builder.Default
+  int minSize = 1;
+
+  @Builder.Default
+  int maxSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+  @Builder.Default
+  long checkoutTimeoutMillis = 60000;
+}
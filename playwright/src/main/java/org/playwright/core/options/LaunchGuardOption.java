@@ -0,0 +1,46 @@
+package org.playwright.core.options;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Limits of the {@link org.playwright.core.LaunchGuard} protecting driver creation and browser launches.
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class LaunchGuardOption {
+  /**
+   * Max number of drivers being created and browsers being launched at the same time, across all threads.
+   */
+  @Builder.Default
+  int maxConcurrentLaunches = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+  /**
+   * How long a launch waits for a free slot before it is rejected.
+   */
+  @Builder.Default
+  long maxWaitMillis = 120000;
+
+  /**
+   * Consecutive failed launches (after retries) that open the circuit.
+   */
+  @Builder.Default
+  int failureThreshold = 3;
+
+  /**
+   * How long an open circuit rejects launches before letting a trial launch through.
+   */
+  @Builder.Default
+  long openMillis = 30000;
+
+  /**
+   * Retries of a failed driver creation, spaced with exponential backoff starting at {@link #getRetryDelayMillis()}.
+   */
+  @Builder.Default
+  int driverRetries = 5;
+
+  @Builder.Default
+  long retryDelayMillis = 500;
+}
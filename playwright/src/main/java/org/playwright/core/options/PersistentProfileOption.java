@@ -0,0 +1,36 @@
+package org.playwright.core.options;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.nio.file.Path;
+
+/**
+ * Options of the user data directories used by the PERSISTENT_CONTEXT resource. Each worker claims its own directory
+ * under {@link #directory}, which is kept across runs so the HTTP, code and service worker caches of the browser stay
+ * warm.
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class PersistentProfileOption {
+  /**
+   * Parent of the user data directories. Defaults to {@code playwright-profiles} in the user's cache directory,
+   * outside the build output, so a {@code mvn clean} doesn't throw the warm caches away.
+   */
+  @Builder.Default
+  Path directory = Path.of(System.getProperty("user.home"), ".cache", "playwright-profiles");
+
+  /**
+   * Golden profile copied into a user data directory the first time it is used, e.g. with a signed-in session or
+   * pre-installed extensions. New directories start empty when null.
+   */
+  Path template;
+
+  /**
+   * Max number of user data directories per browser, i.e. the number of persistent contexts open at once.
+   */
+  @Builder.Default
+  int maxProfiles = 32;
+}
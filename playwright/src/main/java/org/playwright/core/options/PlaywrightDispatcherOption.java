@@ -0,0 +1,19 @@
+package org.playwright.core.options;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Options for the shared {@link org.playwright.core.PlaywrightDispatcher}.
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class PlaywrightDispatcherOption {
+  @Builder.Default
+  int driverCount = 2;
+
+  @Builder.Default
+  long startTimeoutMillis = 120000;
+}
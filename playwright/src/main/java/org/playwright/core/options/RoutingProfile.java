@@ -0,0 +1,40 @@
+package org.playwright.core.options;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Named set of request blocking and stubbing rules, applied to a BrowserContext through
+ * {@link BrowserContextOption#getRoutingProfiles()}. Stubs take precedence over blocking rules.
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class RoutingProfile {
+  String name;
+
+  /**
+   * Resource types to block, e.g. image, media, font.
+   */
+  @Builder.Default
+  Set<String> blockResourceTypes = Set.of();
+
+  /**
+   * Hosts to block, including their subdomains: "doubleclick.net" blocks "ad.doubleclick.net".
+   */
+  @Builder.Default
+  Set<String> blockHosts = Set.of();
+
+  /**
+   * Url globs to block: "**" matches any characters, "*" any characters but "/".
+   */
+  @Builder.Default
+  List<String> blockUrlGlobs = List.of();
+
+  @Builder.Default
+  List<RoutingStub> stubs = List.of();
+}
@@ -0,0 +1,24 @@
+package org.playwright.core.options;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Canned response served instead of requests matching {@link #getUrlGlob()}.
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class RoutingStub {
+  String urlGlob;
+
+  @Builder.Default
+  int status = 200;
+
+  @Builder.Default
+  String contentType = "application/json";
+
+  @Builder.Default
+  String body = "";
+}
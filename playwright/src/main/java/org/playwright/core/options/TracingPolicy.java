@@ -0,0 +1,47 @@
+package org.playwright.core.options;
+
+/**
+ * When traces are recorded and kept.
+ */
+public enum TracingPolicy {
+  /**
+   * Never record.
+   */
+  OFF,
+  /**
+   * Record and keep every trace.
+   */
+  ALWAYS,
+  /**
+   * Record every test, keep the trace only when the test failed.
+   */
+  RETAIN_ON_FAILURE,
+  /**
+   * Record and keep only the first retry of a test.
+   */
+  ON_FIRST_RETRY;
+
+  /**
+   * Whether a test run with the given retry attempt should be recorded.
+   *
+   * @param retryAttempt 0 for the first run, 1 for the first retry, etc.
+   * @return true when the run should be recorded
+   */
+  public boolean records(int retryAttempt) {
+    return switch (this) {
+      case OFF -> false;
+      case ALWAYS, RETAIN_ON_FAILURE -> true;
+      case ON_FIRST_RETRY -> retryAttempt == 1;
+    };
+  }
+
+  /**
+   * Whether a recorded trace should be written to disk.
+   *
+   * @param testFailed whether the test failed
+   * @return true when the trace should be kept
+   */
+  public boolean retains(boolean testFailed) {
+    return this != OFF && (this != RETAIN_ON_FAILURE || testFailed);
+  }
+}
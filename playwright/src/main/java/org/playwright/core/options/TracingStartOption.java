@@ -19,6 +19,15 @@ public class TracingStartOption implements IOption<Tracing.StartOptions> {
   @Builder.Default
   boolean enableSource = false;
 
+  @Builder.Default
+  TracingPolicy policy = TracingPolicy.ALWAYS;
+
+  /**
+   * Retry attempt of the test using the BrowserContext: 0 for the first run, 1 for the first retry, etc.
+   */
+  @Builder.Default
+  int retryAttempt = 0;
+
   @Override
   public Tracing.StartOptions forPlaywright() {
     return new Tracing.StartOptions()
@@ -9,18 +9,44 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Value
 @Builder(toBuilder = true)
 @Jacksonized
 public class TracingStopOption implements IOption<Tracing.StopOptions> {
+  private static final AtomicLong TRACE_SEQUENCE = new AtomicLong();
+
+  /**
+   * Trace file. When not set, every trace gets its own file in {@link #tracingDir} so that parallel tests don't
+   * overwrite each other's traces.
+   */
+  Path tracingPath;
+
   @Builder.Default
-  Path tracingPath = Paths.get("target/trace/default.zip");
+  Path tracingDir = Paths.get("target/trace/");
 
   @Override
   public Tracing.StopOptions forPlaywright() {
-    log.info("TracingStopOptions: trace file recorded in directory: {}", tracingPath);
-    return new Tracing.StopOptions().setPath(tracingPath);
+    return new Tracing.StopOptions().setPath(resolveTracingPath());
+  }
+
+  /**
+   * Convert to the options used to stop a tracing chunk.
+   *
+   * @return Playwright StopChunkOptions
+   */
+  public Tracing.StopChunkOptions forChunk() {
+    return new Tracing.StopChunkOptions().setPath(resolveTracingPath());
+  }
+
+  private Path resolveTracingPath() {
+    Path path = tracingPath != null
+        ? tracingPath
+        : tracingDir.resolve("trace-" + Thread.currentThread().getName().replaceAll("[^A-Za-z0-9_-]", "_") + "-"
+            + TRACE_SEQUENCE.incrementAndGet() + ".zip");
+    log.info("TracingStopOptions: trace file recorded in directory: {}", path);
+    return path;
   }
 }
@@ -0,0 +1,48 @@
+package org.playwright.core.options;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * When videos are recorded and kept.
+ */
+public enum VideoPolicy {
+  /**
+   * Never record.
+   */
+  OFF,
+  /**
+   * Record and keep every video.
+   */
+  ALWAYS,
+  /**
+   * Record every test, keep the video only when the test failed.
+   */
+  RETAIN_ON_FAILURE,
+  /**
+   * Record and keep the given percentage of BrowserContexts, picked at random.
+   */
+  SAMPLED;
+
+  /**
+   * Whether a BrowserContext created with this policy records video. {@link #SAMPLED} is expected to be decided with
+   * {@link #sample(int)} beforehand and counts as recording until then.
+   *
+   * @return true when video should be recorded
+   */
+  public boolean records() {
+    return this != OFF;
+  }
+
+  /**
+   * Decide once whether a new BrowserContext is part of the {@link #SAMPLED} percentage.
+   *
+   * @param samplePercent percentage of contexts recorded by {@link #SAMPLED}
+   * @return {@link #ALWAYS} or {@link #OFF} for {@link #SAMPLED}, this policy otherwise
+   */
+  public VideoPolicy sample(int samplePercent) {
+    if (this != SAMPLED) {
+      return this;
+    }
+    return ThreadLocalRandom.current().nextInt(100) < samplePercent ? ALWAYS : OFF;
+  }
+}
@@ -0,0 +1,32 @@
+package org.playwright.core.options;
+
+/**
+ * Condition the {@link org.playwright.common.WaitEngine} waits for.
+ */
+public enum WaitCondition {
+  /**
+   * The load event was fired.
+   */
+  LOAD,
+  /**
+   * The DOMContentLoaded event was fired.
+   */
+  DOMCONTENTLOADED,
+  /**
+   * No tracked request has been in flight for {@link WaitOption#getQuietMillis()}.
+   */
+  NETWORK_QUIET,
+  /**
+   * DOMCONTENTLOADED, LOAD and NETWORK_QUIET.
+   */
+  ALL;
+
+  /**
+   * Whether this condition includes waiting for the network to be quiet.
+   *
+   * @return true for NETWORK_QUIET and ALL
+   */
+  public boolean waitsForNetwork() {
+    return this == NETWORK_QUIET || this == ALL;
+  }
+}
@@ -0,0 +1,52 @@
+package org.playwright.core.options;
+
+import com.microsoft.playwright.Page;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+import java.util.Set;
+
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class WaitOption implements IOption<Page.WaitForLoadStateOptions> {
+  @Builder.Default
+  WaitCondition condition = WaitCondition.ALL;
+
+  /**
+   * How long no tracked request must be in flight for the network to count as quiet.
+   */
+  @Builder.Default
+  long quietMillis = 250;
+
+  @Builder.Default
+  long timeoutMillis = 30000;
+
+  /**
+   * Max time between two checks of the network state. Playwright events are only delivered while the page is waited
+   * on, so this is also how often request events are processed.
+   */
+  @Builder.Default
+  long pollMillis = 50;
+
+  /**
+   * Requests whose url matches one of these regular expressions (e.g. analytics beacons, long-polling) are not
+   * tracked.
+   */
+  @Builder.Default
+  List<String> ignoreUrlPatterns = List.of();
+
+  /**
+   * Requests of these resource types are not tracked.
+   */
+  @Builder.Default
+  Set<String> ignoreResourceTypes = Set.of("websocket", "eventsource", "ping");
+
+  @Override
+  public Page.WaitForLoadStateOptions forPlaywright() {
+    return new Page.WaitForLoadStateOptions()
+        .setTimeout(timeoutMillis);
+  }
+}
@@ -3,6 +3,8 @@ package org.playwright.failsafe;
 import dev.failsafe.Failsafe;
 import dev.failsafe.function.CheckedRunnable;
 
+import java.util.concurrent.CompletableFuture;
+
 public class FailsafeFallback {
 
   /**
@@ -15,4 +17,16 @@ public class FailsafeFallback {
   public static void withLog(CheckedRunnable testSteps, String logMessage) {
     Failsafe.with(new FailsafePolicy().fallbackPolicyToLog(logMessage)).run(testSteps);
   }
+
+  /**
+   * Async {@link #withLog(CheckedRunnable, String)}, run on the shared {@link FailsafeScheduler}.
+   *
+   * @param testSteps  test steps to run
+   * @param logMessage log message to display if test steps fail
+   * @return future completed once the steps ran or the fallback logged
+   */
+  public static CompletableFuture<Void> withLogAsync(CheckedRunnable testSteps, String logMessage) {
+    return Failsafe.with(new FailsafePolicy().fallbackPolicyToLog(logMessage)).with(FailsafeScheduler.get())
+        .runAsync(testSteps);
+  }
 }
@@ -1,18 +1,30 @@
 package org.playwright.failsafe;
 
 
+import dev.failsafe.Failsafe;
+import dev.failsafe.FailsafeExecutor;
 import dev.failsafe.Fallback;
 import dev.failsafe.RetryPolicy;
+import dev.failsafe.RetryPolicyBuilder;
+import dev.failsafe.event.ExecutionAttemptedEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.playwright.common.Timeout;
+import org.playwright.metrics.RetryMetrics;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 public class FailsafePolicy {
   public static final int DEFAULT_DELAY_SECONDS = Timeout.ONE_SECOND.getSecond();
   public static int DEFAULT_MAX_ATTEMPTS = 3;
 
+  private static final Map<RetryOption, RetryPolicy<Object>> RETRY_POLICIES = new ConcurrentHashMap<>();
+  private static final Map<RetryOption, FailsafeExecutor<Object>> EXECUTORS = new ConcurrentHashMap<>();
+  private static final Map<RetryOption, FailsafeExecutor<Object>> ASYNC_EXECUTORS = new ConcurrentHashMap<>();
+
   public RetryPolicy<Object> getDefaultRetryPolicy() {
     return createRetryPolicy(DEFAULT_DELAY_SECONDS, DEFAULT_MAX_ATTEMPTS, Throwable.class);
   }
@@ -29,14 +41,45 @@ public class FailsafePolicy {
   @SafeVarargs
   public final RetryPolicy<Object> createRetryPolicy(int delayInSeconds, int maxAttempts,
                                                      Class<? extends Throwable>... exceptions) {
-    return RetryPolicy.builder()
-        .handle(exceptions)
-        .withDelay(Duration.ofSeconds(delayInSeconds))
-        .withMaxRetries(maxAttempts)
-        .onRetry(e -> log.info("Failed on #{} retry! Error: {}. Retrying...", e.getAttemptCount(),
-            e.getLastException().getMessage().lines().toList().get(1)))
-        .onRetriesExceeded(e -> log.error("Max attempts reached.", e.getException()))
-        .build();
+    return createRetryPolicy(toRetryOption(delayInSeconds, maxAttempts, exceptions));
+  }
+
+  /**
+   * Creates retry failsafe policy with millisecond delays, optional exponential backoff with jitter and a total time
+   * budget. Policies are memoized per RetryOption.
+   *
+   * @param retryOption retry parameters
+   * @return RetryPolicy obj
+   * @see <a href="https://failsafe.dev/retry/">official FailSafe documentation</a>
+   */
+  public RetryPolicy<Object> createRetryPolicy(RetryOption retryOption) {
+    return RETRY_POLICIES.computeIfAbsent(retryOption, FailsafePolicy::buildRetryPolicy);
+  }
+
+  /**
+   * Creates failsafe executor retrying with the given options and, when configured, failing attempts that exceed
+   * {@link RetryOption#getAttemptTimeoutMillis()}. Executors are memoized per RetryOption.
+   *
+   * @param retryOption retry parameters
+   * @return FailsafeExecutor obj
+   */
+  public FailsafeExecutor<Object> createExecutor(RetryOption retryOption) {
+    return EXECUTORS.computeIfAbsent(retryOption, option -> option.getAttemptTimeoutMillis() > 0
+        // the timeout is the inner policy, so it applies to every attempt rather than to the whole execution
+        ? Failsafe.with(createRetryPolicy(option),
+            dev.failsafe.Timeout.builder(Duration.ofMillis(option.getAttemptTimeoutMillis())).withInterrupt().build())
+        : Failsafe.with(createRetryPolicy(option)));
+  }
+
+  /**
+   * Same as {@link #createExecutor(RetryOption)}, running async executions on the shared {@link FailsafeScheduler}.
+   * Executors are memoized per RetryOption.
+   *
+   * @param retryOption retry parameters
+   * @return FailsafeExecutor obj
+   */
+  public FailsafeExecutor<Object> createAsyncExecutor(RetryOption retryOption) {
+    return ASYNC_EXECUTORS.computeIfAbsent(retryOption, option -> createExecutor(option).with(FailsafeScheduler.get()));
   }
 
   /**
@@ -52,4 +95,66 @@ public class FailsafePolicy {
       log.info(logMessage);
     });
   }
+
+  @SafeVarargs
+  static RetryOption toRetryOption(int delayInSeconds, int maxAttempts, Class<? extends Throwable>... exceptions) {
+    return RetryOption.builder()
+        .delayMillis(Duration.ofSeconds(delayInSeconds).toMillis())
+        .maxRetries(maxAttempts)
+        .handle(List.of(exceptions))
+        .build();
+  }
+
+  /**
+   * Line of an error message worth logging: the second line when there is one (Playwright puts the actual error
+   * there), else the whole message. Only that line is copied.
+   */
+  static String retryReason(Throwable throwable) {
+    String message = throwable != null ? throwable.getMessage() : null;
+    if (message == null) {
+      return String.valueOf(throwable);
+    }
+    int start = message.indexOf('\n');
+    if (start < 0) {
+      return message;
+    }
+    int end = message.indexOf('\n', start + 1);
+    return message.substring(start + 1, end < 0 ? message.length() : end).strip();
+  }
+
+  private static RetryPolicy<Object> buildRetryPolicy(RetryOption retryOption) {
+    RetryPolicyBuilder<Object> builder = RetryPolicy.builder()
+        .handle(retryOption.getHandle())
+        .withMaxRetries(retryOption.getMaxRetries())
+        .onRetry(FailsafePolicy::logRetry)
+        .onRetriesExceeded(e -> {
+          RetryMetrics.retriesExceeded();
+          log.error("Max attempts reached.", e.getException());
+        });
+
+    if (retryOption.getMaxDelayMillis() > retryOption.getDelayMillis()) {
+      builder.withBackoff(Duration.ofMillis(retryOption.getDelayMillis()),
+          Duration.ofMillis(retryOption.getMaxDelayMillis()), retryOption.getBackoffFactor());
+    } else {
+      builder.withDelay(Duration.ofMillis(retryOption.getDelayMillis()));
+    }
+    if (!retryOption.getAbortOn().isEmpty()) {
+      builder.abortOn(retryOption.getAbortOn());
+    }
+    if (retryOption.getJitterFactor() > 0) {
+      builder.withJitter(retryOption.getJitterFactor());
+    }
+    if (retryOption.getMaxDurationMillis() > 0) {
+      builder.withMaxDuration(Duration.ofMillis(retryOption.getMaxDurationMillis()));
+    }
+    return builder.build();
+  }
+
+  private static void logRetry(ExecutionAttemptedEvent<Object> event) {
+    RetryMetrics.retried(event.getAttemptCount(), () -> retryReason(event.getLastException()));
+    if (log.isInfoEnabled()) {
+      log.info("Failed on #{} retry! Error: {}. Retrying...", event.getAttemptCount(),
+          retryReason(event.getLastException()));
+    }
+  }
 }
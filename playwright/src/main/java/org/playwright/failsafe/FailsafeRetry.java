@@ -1,15 +1,22 @@
 package org.playwright.failsafe;
 
 
-import dev.failsafe.Failsafe;
 import dev.failsafe.function.CheckedRunnable;
+import dev.failsafe.function.CheckedSupplier;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * Holds useful retry functions with pre-built policies.
+ * Holds useful retry functions with pre-built policies. <br><br>
+ *
+ * <p>The {@code Async} variants return immediately and retry on the shared {@link FailsafeScheduler}: no thread is held
+ * while waiting for the next attempt. Playwright objects are confined to the thread that created them, so async steps
+ * should create and use their own Playwright resources.</p>
  */
 public class FailsafeRetry {
   public static void withDefault(CheckedRunnable testSteps) {
-    Failsafe.with(new FailsafePolicy().getDefaultRetryPolicy()).run(testSteps);
+    tryAgain(testSteps, FailsafePolicy.DEFAULT_DELAY_SECONDS, FailsafePolicy.DEFAULT_MAX_ATTEMPTS);
   }
 
   /**
@@ -18,7 +25,78 @@ public class FailsafeRetry {
    * @param testSteps Runnable test steps
    */
   public static void tryAgain(CheckedRunnable testSteps, int delayInSeconds, int maxAttempts) {
-    var policy = new FailsafePolicy().createRetryPolicy(delayInSeconds, maxAttempts, Throwable.class);
-    Failsafe.with(policy).run(testSteps);
+    tryAgain(testSteps, FailsafePolicy.toRetryOption(delayInSeconds, maxAttempts, Throwable.class));
+  }
+
+  /**
+   * Retry with the given options, e.g. sub-second exponential backoff around fast Playwright actions.
+   *
+   * @param testSteps   Runnable test steps
+   * @param retryOption retry parameters
+   */
+  public static void tryAgain(CheckedRunnable testSteps, RetryOption retryOption) {
+    new FailsafePolicy().createExecutor(retryOption).run(testSteps);
+  }
+
+  /**
+   * Retry with the given options and return the result of the first successful attempt.
+   *
+   * @param testSteps   test steps producing a result
+   * @param retryOption retry parameters
+   * @param <T>         result type
+   * @return result
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T tryGet(CheckedSupplier<T> testSteps, RetryOption retryOption) {
+    return (T) new FailsafePolicy().createExecutor(retryOption).get((CheckedSupplier<Object>) testSteps);
+  }
+
+  /**
+   * Async {@link #withDefault(CheckedRunnable)}.
+   *
+   * @param testSteps Runnable test steps
+   * @return future completed when the steps succeed or the retries are exhausted
+   */
+  public static CompletableFuture<Void> withDefaultAsync(CheckedRunnable testSteps) {
+    return tryAgainAsync(testSteps, FailsafePolicy.toRetryOption(FailsafePolicy.DEFAULT_DELAY_SECONDS,
+        FailsafePolicy.DEFAULT_MAX_ATTEMPTS, Throwable.class));
+  }
+
+  /**
+   * Async {@link #tryAgain(CheckedRunnable, RetryOption)}.
+   *
+   * @param testSteps   Runnable test steps
+   * @param retryOption retry parameters
+   * @return future completed when the steps succeed or the retries are exhausted
+   */
+  public static CompletableFuture<Void> tryAgainAsync(CheckedRunnable testSteps, RetryOption retryOption) {
+    return new FailsafePolicy().createAsyncExecutor(retryOption).runAsync(testSteps);
+  }
+
+  /**
+   * Async {@link #tryGet(CheckedSupplier, RetryOption)}.
+   *
+   * @param testSteps   test steps producing a result
+   * @param retryOption retry parameters
+   * @param <T>         result type
+   * @return future of the result of the first successful attempt
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> CompletableFuture<T> tryGetAsync(CheckedSupplier<T> testSteps, RetryOption retryOption) {
+    return (CompletableFuture<T>) new FailsafePolicy().createAsyncExecutor(retryOption)
+        .getAsync((CheckedSupplier<Object>) testSteps);
+  }
+
+  /**
+   * Run independent steps concurrently, each retried on its own with the given options.
+   *
+   * @param testSteps   independent test steps
+   * @param retryOption retry parameters of every step
+   * @return future completed when every step succeeded, or exceptionally once all finished and any failed
+   */
+  public static CompletableFuture<Void> runAllAsync(List<CheckedRunnable> testSteps, RetryOption retryOption) {
+    return CompletableFuture.allOf(testSteps.stream()
+        .map(steps -> tryAgainAsync(steps, retryOption))
+        .toArray(CompletableFuture[]::new));
   }
 }
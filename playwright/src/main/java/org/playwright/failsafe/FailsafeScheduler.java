@@ -0,0 +1,50 @@
+package org.playwright.failsafe;
+
+import com.microsoft.playwright.PlaywrightException;
+import dev.failsafe.spi.Scheduler;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared scheduler of the async retry and fallback variants. <br><br>
+ *
+ * <p>Retry delays are waited out on Failsafe's single delay thread, so a step waiting for its next attempt holds no
+ * worker thread. Attempts run on virtual threads when {@value #VIRTUAL_THREADS_PROPERTY} is set and the runtime
+ * supports them (Java 21+), otherwise on a cached pool of daemon threads.</p>
+ */
+@Slf4j
+final class FailsafeScheduler {
+  static final String VIRTUAL_THREADS_PROPERTY = "playwright.failsafe.virtualThreads";
+
+  private static final Scheduler SCHEDULER = Scheduler.of(createExecutor());
+
+  private FailsafeScheduler() {
+    throw new PlaywrightException("FailsafeScheduler should not be instantiated!");
+  }
+
+  static Scheduler get() {
+    return SCHEDULER;
+  }
+
+  private static ExecutorService createExecutor() {
+    if (Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY)) {
+      try {
+        // looked up reflectively so the library keeps compiling and running on Java 17
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+      } catch (ReflectiveOperationException e) {
+        log.warn("FailsafeScheduler: virtual threads are not supported by Java {}, using platform threads.",
+            Runtime.version().feature());
+      }
+    }
+
+    AtomicInteger count = new AtomicInteger();
+    return Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "failsafe-async-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+}
@@ -0,0 +1,62 @@
+package org.playwright.failsafe;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+/**
+ * Parameters of a retry policy built by {@link FailsafePolicy}. Policies are memoized per RetryOption, so equal
+ * options share one policy.
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class RetryOption {
+  /**
+   * Delay before the first retry.
+   */
+  @Builder.Default
+  long delayMillis = 1000;
+
+  /**
+   * Enables exponential backoff when greater than {@link #getDelayMillis()}: the delay is multiplied by
+   * {@link #getBackoffFactor()} after every retry, up to this value.
+   */
+  @Builder.Default
+  long maxDelayMillis = 0;
+
+  @Builder.Default
+  double backoffFactor = 2;
+
+  /**
+   * Randomly shifts every delay by up to this fraction of it (0 to 1), so concurrent retries spread out.
+   */
+  @Builder.Default
+  double jitterFactor = 0;
+
+  @Builder.Default
+  int maxRetries = FailsafePolicy.DEFAULT_MAX_ATTEMPTS;
+
+  /**
+   * Total time budget of all attempts and delays. No budget when 0.
+   */
+  @Builder.Default
+  long maxDurationMillis = 0;
+
+  /**
+   * Time budget of a single attempt; an attempt running longer is failed (and retried). No timeout when 0.
+   */
+  @Builder.Default
+  long attemptTimeoutMillis = 0;
+
+  @Builder.Default
+  List<Class<? extends Throwable>> handle = List.of(Throwable.class);
+
+  /**
+   * Failures that are not retried, even when matching {@link #getHandle()}.
+   */
+  @Builder.Default
+  List<Class<? extends Throwable>> abortOn = List.of();
+}
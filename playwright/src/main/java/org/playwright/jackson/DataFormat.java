@@ -0,0 +1,150 @@
+package org.playwright.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.microsoft.playwright.PlaywrightException;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Serialization formats supported by {@link JacksonUtils}. <br><br>
+ *
+ * <p>Every format shares the configuration of the JSON mapper (features, modules, {@link JacksonCustomizer}s). The
+ * binary formats write a header and XML starts with {@code <}, so files can be recognized by their first bytes as well
+ * as by their extension.</p>
+ */
+public enum DataFormat {
+  JSON(".json", JacksonUtils::sharedObjectMapper, ObjectMapper::writerWithDefaultPrettyPrinter),
+  JSON_COMPACT(".min.json", JacksonUtils::sharedObjectMapper, ObjectMapper::writer),
+  SMILE(".smile", () -> JacksonUtils.configure(new SmileMapper()), ObjectMapper::writer),
+  CBOR(".cbor", () -> JacksonUtils.configure(CBORMapper.builder().enable(CBORGenerator.Feature.WRITE_TYPE_HEADER)
+      .build()), ObjectMapper::writer),
+  XML(".xml", () -> JacksonUtils.configure(new XmlMapper()), ObjectMapper::writer);
+
+  private static final int HEADER_LENGTH = 3;
+
+  @Getter
+  private final String extension;
+  private final Supplier<ObjectMapper> mapperFactory;
+  private final Function<ObjectMapper, ObjectWriter> writerFactory;
+  private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+  private volatile ObjectMapper objectMapper;
+  private volatile ObjectWriter objectWriter;
+
+  DataFormat(String extension, Supplier<ObjectMapper> mapperFactory,
+             Function<ObjectMapper, ObjectWriter> writerFactory) {
+    this.extension = extension;
+    this.mapperFactory = mapperFactory;
+    this.writerFactory = writerFactory;
+  }
+
+  /**
+   * Format of a file, by extension. Unknown extensions are treated as JSON.
+   *
+   * @param fileName file name or path
+   * @return DataFormat
+   */
+  public static DataFormat fromFileName(String fileName) {
+    DataFormat match = null;
+    for (DataFormat format : values()) {
+      if (fileName.endsWith(format.extension)
+          && (match == null || format.extension.length() > match.extension.length())) {
+        match = format;
+      }
+    }
+    return match != null ? match : JSON;
+  }
+
+  /**
+   * Format of serialized data, by its first bytes. Data that is neither Smile, CBOR nor XML is treated as JSON.
+   *
+   * @param content serialized data, or at least its first bytes
+   * @return DataFormat
+   */
+  public static DataFormat detect(byte[] content) {
+    if (content.length >= HEADER_LENGTH && content[0] == ':' && content[1] == ')' && content[2] == '\n') {
+      return SMILE;
+    }
+    if (content.length > 0 && content[0] == '<') {
+      return XML;
+    }
+    // CBOR self-describe tag, or a top-level CBOR array/map; JSON text never starts with these bytes
+    int first = content.length > 0 ? content[0] & 0xFF : 0;
+    return first == 0xD9 || (first >= 0x80 && first <= 0xBF) ? CBOR : JSON;
+  }
+
+  /**
+   * Format of serialized data, by its first bytes. The stream is reset, so nothing is consumed.
+   *
+   * @param inputStream stream supporting mark/reset
+   * @return DataFormat
+   */
+  public static DataFormat detect(InputStream inputStream) {
+    if (!inputStream.markSupported()) {
+      throw new PlaywrightException("DataFormat: detecting the format requires a stream supporting mark/reset!");
+    }
+    try {
+      inputStream.mark(HEADER_LENGTH);
+      byte[] header = inputStream.readNBytes(HEADER_LENGTH);
+      inputStream.reset();
+      return detect(header);
+    } catch (IOException e) {
+      throw new PlaywrightException("Error reading data!", e);
+    }
+  }
+
+  /**
+   * Returns the cached ObjectReader of this format for the given type.
+   *
+   * @param type target type
+   * @return ObjectReader object
+   */
+  public ObjectReader readerFor(JavaType type) {
+    return readers.computeIfAbsent(type, objectMapper()::readerFor);
+  }
+
+  /**
+   * Returns the ObjectWriter of this format.
+   *
+   * @return ObjectWriter object
+   */
+  public ObjectWriter writer() {
+    if (objectWriter == null) {
+      objectWriter = writerFactory.apply(objectMapper());
+    }
+    return objectWriter;
+  }
+
+  /**
+   * Returns the shared ObjectMapper of this format. It must not be reconfigured, see
+   * {@link JacksonUtils#getObjectMapper()}.
+   *
+   * @return ObjectMapper object
+   */
+  public ObjectMapper getObjectMapper() {
+    return objectMapper();
+  }
+
+  ObjectMapper objectMapper() {
+    if (objectMapper == null) {
+      synchronized (this) {
+        if (objectMapper == null) {
+          objectMapper = mapperFactory.get();
+        }
+      }
+    }
+    return objectMapper;
+  }
+}
@@ -0,0 +1,218 @@
+package org.playwright.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.microsoft.playwright.PlaywrightException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded LRU cache of parsed test-data files. <br><br>
+ *
+ * <p>Files are read through a memory-mapped buffer and parsed once per path and target type. JSON, Smile and CBOR
+ * files are told apart by their first bytes. An entry is reloaded when the modification time or size of its file
+ * changes. With copy-on-read enabled the parsed token stream is cached and bound again on every read, so callers get
+ * independent objects they can mutate without re-reading the file. XML is always bound by the XML reader, which turns
+ * repeated elements into arrays; a token stream would lose that, so for XML the file content is cached instead and
+ * parsed again on every read.</p>
+ */
+@Slf4j
+public final class FixtureCache {
+  private static final int HEADER_LENGTH = 3;
+
+  private final Map<Key, Entry> entries;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  @Getter
+  private final int maxEntries;
+  @Getter
+  private final boolean copyOnRead;
+
+  /**
+   * Create a fixture cache.
+   *
+   * @param maxEntries max number of cached (file, type) entries before the least recently used one is evicted
+   * @param copyOnRead whether every read returns a fresh copy of the parsed data
+   */
+  public FixtureCache(int maxEntries, boolean copyOnRead) {
+    if (maxEntries < 1) {
+      throw new PlaywrightException("FixtureCache: maxEntries must be at least 1!");
+    }
+    this.maxEntries = maxEntries;
+    this.copyOnRead = copyOnRead;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+        boolean evict = size() > FixtureCache.this.maxEntries;
+        if (evict) {
+          evictions.increment();
+        }
+        return evict;
+      }
+    };
+  }
+
+  /**
+   * Read a file into the given type, using the cached result when the file did not change.
+   *
+   * @param path  file path
+   * @param clazz class to convert data into
+   * @param <T>   result type
+   * @return parsed data
+   */
+  public <T> T read(Path path, Class<T> clazz) {
+    return read(path, JacksonUtils.readerFor(clazz).getValueType());
+  }
+
+  /**
+   * Read a file into the given type, using the cached result when the file did not change.
+   *
+   * @param path file path
+   * @param type type to convert data into
+   * @param <T>  result type
+   * @return parsed data
+   */
+  public <T> T read(Path path, JavaType type) {
+    Key key = new Key(path.toAbsolutePath().normalize(), type);
+    ObjectReader reader = JacksonUtils.readerFor(type);
+
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(key.path(), BasicFileAttributes.class);
+      Entry entry;
+      synchronized (entries) {
+        entry = entries.get(key);
+      }
+
+      if (entry != null && entry.matches(attributes)) {
+        hits.increment();
+        return valueOf(entry, reader);
+      }
+
+      misses.increment();
+      entry = load(key.path(), attributes, reader);
+      synchronized (entries) {
+        entries.put(key, entry);
+      }
+      return valueOf(entry, reader);
+    } catch (IOException e) {
+      throw new PlaywrightException("Error reading data!", e);
+    }
+  }
+
+  /**
+   * Drop all cached entries of a file.
+   *
+   * @param path file path
+   */
+  public void invalidate(Path path) {
+    Path normalized = path.toAbsolutePath().normalize();
+    synchronized (entries) {
+      entries.keySet().removeIf(key -> key.path().equals(normalized));
+    }
+  }
+
+  /**
+   * Drop all cached entries. Statistics are kept.
+   */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  /**
+   * Number of cached entries.
+   *
+   * @return entry count
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T valueOf(Entry entry, ObjectReader reader) throws IOException {
+    if (!copyOnRead) {
+      return (T) entry.value();
+    }
+    return entry.xml() != null
+        ? DataFormat.XML.readerFor(reader.getValueType()).readValue(entry.xml())
+        : reader.readValue(entry.tokens().asParser());
+  }
+
+  private Entry load(Path path, BasicFileAttributes attributes, ObjectReader reader) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      DataFormat format;
+      InputStream inputStream;
+      if (attributes.size() > Integer.MAX_VALUE) {
+        inputStream = new BufferedInputStream(Channels.newInputStream(channel));
+        format = DataFormat.detect(inputStream);
+      } else {
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, attributes.size());
+        byte[] header = new byte[Math.min(HEADER_LENGTH, buffer.remaining())];
+        buffer.get(0, header);
+        format = DataFormat.detect(header);
+        inputStream = new ByteBufferBackedInputStream(buffer);
+      }
+      log.debug("FixtureCache: loading {} ({}) as {}.", path, format, reader.getValueType());
+
+      if (format == DataFormat.XML) {
+        byte[] xml = inputStream.readAllBytes();
+        Object value = format.readerFor(reader.getValueType()).readValue(xml);
+        return new Entry(attributes.lastModifiedTime(), attributes.size(), copyOnRead ? null : value, null,
+            copyOnRead ? xml : null);
+      }
+      try (JsonParser parser = format.readerFor(reader.getValueType()).createParser(inputStream)) {
+        parser.nextToken();
+        TokenBuffer tokens = new TokenBuffer(parser);
+        tokens.copyCurrentStructure(parser);
+        // bind once so type errors surface on load, not on a later hit
+        Object value = reader.readValue(tokens.asParser());
+        return new Entry(attributes.lastModifiedTime(), attributes.size(), copyOnRead ? null : value,
+            copyOnRead ? tokens : null, null);
+      }
+    }
+  }
+
+  private record Key(Path path, JavaType type) {
+  }
+
+  private record Entry(FileTime lastModified, long size, Object value, TokenBuffer tokens, byte[] xml) {
+
+    boolean matches(BasicFileAttributes attributes) {
+      return lastModified.equals(attributes.lastModifiedTime()) && size == attributes.size();
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package org.playwright.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Hook to customize the shared ObjectMapper used by {@link JacksonUtils}. <br><br>
+ *
+ * <p>Implementations are discovered with {@link java.util.ServiceLoader} (list them in
+ * {@code META-INF/services/org.playwright.jackson.JacksonCustomizer}) and applied once, when the shared mapper is built.
+ * The mapper must not be modified afterwards.</p>
+ */
+public interface JacksonCustomizer {
+
+  /**
+   * Customize the shared ObjectMapper, e.g. register modules or toggle features.
+   *
+   * @param objectMapper mapper being built
+   */
+  void customize(ObjectMapper objectMapper);
+}
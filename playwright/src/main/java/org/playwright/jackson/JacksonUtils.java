@@ -1,42 +1,131 @@
 package org.playwright.jackson;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.microsoft.playwright.PlaywrightException;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.ServiceLoader;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+/**
+ * JSON helpers backed by a single, shared ObjectMapper. Binary Smile and CBOR data is supported through
+ * {@link DataFormat}. <br><br>
+ *
+ * <p>The mapper is built once, customized by every {@link JacksonCustomizer} found on the classpath, and never modified
+ * afterwards, so it is safe to share between threads and keeps Jackson's serializer and deserializer caches warm.
+ * ObjectReader and ObjectWriter instances are immutable and cached per target type.</p>
+ */
 @Slf4j
 public class JacksonUtils {
+  private static final ObjectMapper OBJECT_MAPPER = configure(new ObjectMapper());
+  private static final Map<JavaType, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+  private static final FixtureCache FIXTURE_CACHE = new FixtureCache(256, true);
 
   /**
-   * Returns ObjectMapper object.
+   * Returns the shared ObjectMapper. It must not be reconfigured: changing it would affect every caller and the cached
+   * readers and writers. Use {@code getObjectMapper().copy()} once for a differently configured mapper, or a
+   * {@link JacksonCustomizer} for application wide settings.
    *
    * @return ObjectMapper object
    */
   public static ObjectMapper getObjectMapper() {
-    ObjectMapper objectMapper = new ObjectMapper();
-    // enable
-    objectMapper.configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
-    objectMapper.configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true);
-    objectMapper.configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE, true);
-    // disable
-    objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-    objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-    // register
-    objectMapper.registerModule(new JavaTimeModule());
+    return OBJECT_MAPPER;
+  }
 
-    return objectMapper;
+  /**
+   * Returns the cache used for files read by {@link #deserializeToMap(String, Class)}.
+   *
+   * @return FixtureCache object
+   */
+  public static FixtureCache getFixtureCache() {
+    return FIXTURE_CACHE;
+  }
+
+  /**
+   * Returns the cached ObjectReader for the given type.
+   *
+   * @param type target type
+   * @return ObjectReader object
+   */
+  public static ObjectReader readerFor(Class<?> type) {
+    return readerFor(OBJECT_MAPPER.constructType(type));
+  }
+
+  /**
+   * Returns the cached ObjectReader for the given type.
+   *
+   * @param type target type
+   * @return ObjectReader object
+   */
+  public static ObjectReader readerFor(TypeReference<?> type) {
+    return readerFor(OBJECT_MAPPER.constructType(type));
+  }
+
+  /**
+   * Returns the cached ObjectReader for the given type.
+   *
+   * @param type target type
+   * @return ObjectReader object
+   */
+  public static ObjectReader readerFor(JavaType type) {
+    return DataFormat.JSON.readerFor(type);
+  }
+
+  /**
+   * Returns the cached ObjectWriter for the given type.
+   *
+   * @param type root type
+   * @return ObjectWriter object
+   */
+  public static ObjectWriter writerFor(Class<?> type) {
+    return writerFor(OBJECT_MAPPER.constructType(type));
+  }
+
+  /**
+   * Returns the cached ObjectWriter for the given type.
+   *
+   * @param type root type
+   * @return ObjectWriter object
+   */
+  public static ObjectWriter writerFor(TypeReference<?> type) {
+    return writerFor(OBJECT_MAPPER.constructType(type));
+  }
+
+  /**
+   * Returns the cached ObjectWriter for the given type.
+   *
+   * @param type root type
+   * @return ObjectWriter object
+   */
+  public static ObjectWriter writerFor(JavaType type) {
+    return WRITERS.computeIfAbsent(type, OBJECT_MAPPER::writerFor);
   }
 
   /**
@@ -47,47 +136,57 @@ public class JacksonUtils {
    * @return List of objects
    */
   public static <T> List<T> deserializeToList(String body, Class<T> clazz) {
-    ObjectMapper objectMapper = getObjectMapper();
-    List<T> result;
-
     try {
-      result = objectMapper.readValue(body, new TypeReference<>() {
-      });
+      return readerFor(OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, elementType(clazz)))
+          .readValue(body);
     } catch (IOException e) {
       throw new PlaywrightException("Error reading data!", e);
     }
+  }
 
-    return (clazz != null)
-        ? result.stream().map(i -> objectMapper.convertValue(i, clazz)).collect(Collectors.toList())
-        : result;
+  /**
+   * Parse JSON, Smile or CBOR data into Java list. The format is detected from the first bytes.
+   *
+   * @param body serialized data
+   * @param <T>  class to convert data into
+   * @return List of objects
+   */
+  public static <T> List<T> deserializeToList(byte[] body, Class<T> clazz) {
+    return deserialize(body, OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, elementType(clazz)));
   }
 
   /**
-   * Parse data into Java list.
+   * Parse data into Java map. Files are read through the {@link #getFixtureCache() fixture cache}, every call
+   * returns a fresh map.
    *
    * @param body json data or file path to data
    * @param <T>  class to convert data into
    * @return map of objects
    */
   public static <T> Map<String, T> deserializeToMap(String body, Class<T> clazz) {
-    ObjectMapper objectMapper = getObjectMapper();
-    Map<String, T> result;
+    JavaType type = OBJECT_MAPPER.getTypeFactory()
+        .constructMapType(Map.class, elementType(String.class), elementType(clazz));
 
+    if (body.endsWith(".json") || body.endsWith(".txt") || DataFormat.fromFileName(body) != DataFormat.JSON) {
+      return FIXTURE_CACHE.read(Paths.get(body), type);
+    }
     try {
-      if (body.endsWith(".json") || body.endsWith(".txt")) {
-        result = objectMapper.readValue(Paths.get(body).toFile(), new TypeReference<>() {
-        });
-      } else {
-        result = objectMapper.readValue(body, new TypeReference<>() {
-        });
-      }
+      return readerFor(type).readValue(body);
     } catch (IOException e) {
       throw new PlaywrightException("Error reading data!", e);
     }
-    if (clazz != null) {
-      result.replaceAll((k, v) -> objectMapper.convertValue(v, clazz));
-    }
-    return result;
+  }
+
+  /**
+   * Parse JSON, Smile or CBOR data into Java map. The format is detected from the first bytes.
+   *
+   * @param body serialized data
+   * @param <T>  class to convert data into
+   * @return map of objects
+   */
+  public static <T> Map<String, T> deserializeToMap(byte[] body, Class<T> clazz) {
+    return deserialize(body, OBJECT_MAPPER.getTypeFactory()
+        .constructMapType(Map.class, elementType(String.class), elementType(clazz)));
   }
 
   /**
@@ -98,21 +197,110 @@ public class JacksonUtils {
    * @return object
    */
   public static <T> T deserializeToObj(String body, Class<T> clazz) {
-    ObjectMapper objectMapper = getObjectMapper();
-    T result;
+    try {
+      return readerFor(elementType(clazz)).readValue(body);
+    } catch (IOException e) {
+      throw new PlaywrightException("Error reading data!", e);
+    }
+  }
+
+  /**
+   * Parse JSON, Smile or CBOR data into Java object. The format is detected from the first bytes.
+   *
+   * @param body serialized data
+   * @param <T>  class to convert data into
+   * @return object
+   */
+  public static <T> T deserializeToObj(byte[] body, Class<T> clazz) {
+    return deserialize(body, elementType(clazz));
+  }
 
+  /**
+   * Parse JSON, Smile or CBOR data into Java object, without copying the stream into memory first. The format is
+   * detected from the first bytes. The stream is not closed.
+   *
+   * @param inputStream serialized data
+   * @param <T>         class to convert data into
+   * @return object
+   */
+  public static <T> T deserializeToObj(InputStream inputStream, Class<T> clazz) {
+    InputStream markable = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
     try {
-      result = objectMapper.readValue(body, new TypeReference<>() {
-      });
+      return DataFormat.detect(markable).readerFor(elementType(clazz)).readValue(markable);
     } catch (IOException e) {
       throw new PlaywrightException("Error reading data!", e);
     }
-    if (clazz != null) {
-      result = objectMapper.convertValue(result, clazz);
+  }
+
+  /**
+   * Lazily iterate over the elements of a top-level JSON array, binding one element at a time. <br><br>
+   *
+   * <p>Only the current element is held in memory, so arbitrarily large files can be processed. The returned
+   * iterator must be closed to release the file. Errors while iterating are thrown as
+   * {@link com.fasterxml.jackson.databind.RuntimeJsonMappingException}.</p>
+   *
+   * @param path  file containing a top-level json array
+   * @param clazz class to convert each element into
+   * @param <T>   element type
+   * @return closeable iterator of elements
+   */
+  public static <T> MappingIterator<T> iterateList(Path path, Class<T> clazz) {
+    try {
+      return iterateList(Files.newInputStream(path), clazz);
+    } catch (IOException e) {
+      throw new PlaywrightException("Error reading data!", e);
+    }
+  }
+
+  /**
+   * Lazily iterate over the elements of a top-level JSON array, binding one element at a time. The stream is closed
+   * together with the returned iterator.
+   *
+   * @param inputStream stream containing a top-level json array
+   * @param clazz       class to convert each element into
+   * @param <T>         element type
+   * @return closeable iterator of elements
+   */
+  public static <T> MappingIterator<T> iterateList(InputStream inputStream, Class<T> clazz) {
+    JsonParser parser = null;
+    try {
+      parser = OBJECT_MAPPER.getFactory().createParser(inputStream);
+      if (parser.nextToken() == JsonToken.START_ARRAY) {
+        parser.clearCurrentToken();
+        return readerFor(elementType(clazz)).readValues(parser);
+      }
+    } catch (IOException e) {
+      closeQuietly(parser != null ? parser : inputStream);
+      throw new PlaywrightException("Error reading data!", e);
     }
-    return result;
+    closeQuietly(parser);
+    throw new PlaywrightException("Error reading data! Expected a top-level json array.");
+  }
+
+  /**
+   * Lazy, sequential stream over the elements of a top-level JSON array. Close the stream (e.g. try-with-resources)
+   * to release the file.
+   *
+   * @param path  file containing a top-level json array
+   * @param clazz class to convert each element into
+   * @param <T>   element type
+   * @return stream of elements
+   */
+  public static <T> Stream<T> streamList(Path path, Class<T> clazz) {
+    return toStream(iterateList(path, clazz));
   }
 
+  /**
+   * Lazy, sequential stream over the elements of a top-level JSON array. Closing the stream closes the input stream.
+   *
+   * @param inputStream stream containing a top-level json array
+   * @param clazz       class to convert each element into
+   * @param <T>         element type
+   * @return stream of elements
+   */
+  public static <T> Stream<T> streamList(InputStream inputStream, Class<T> clazz) {
+    return toStream(iterateList(inputStream, clazz));
+  }
 
   /**
    * Serializes java object to String representation.
@@ -121,12 +309,102 @@ public class JacksonUtils {
    * @return string representation of java object
    */
   public static String serializeToString(Object obj) {
-    ObjectMapper objectMapper = getObjectMapper();
+    try {
+      return DataFormat.JSON.writer().writeValueAsString(obj);
+    } catch (JsonProcessingException e) {
+      throw new PlaywrightException("Error serializing java object!", e);
+    }
+  }
 
+  /**
+   * Serializes java object in the given format.
+   *
+   * @param obj    object to serialize
+   * @param format target format
+   * @return serialized bytes
+   */
+  public static byte[] serializeToBytes(Object obj, DataFormat format) {
     try {
-      return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(obj);
+      return format.writer().writeValueAsBytes(obj);
     } catch (JsonProcessingException e) {
       throw new PlaywrightException("Error serializing java object!", e);
     }
   }
+
+  /**
+   * Serializes java object in the given format straight to a stream. The stream is not closed.
+   *
+   * @param obj          object to serialize
+   * @param format       target format
+   * @param outputStream target stream
+   */
+  public static void serialize(Object obj, DataFormat format, OutputStream outputStream) {
+    try {
+      format.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, obj);
+    } catch (IOException e) {
+      throw new PlaywrightException("Error serializing java object!", e);
+    }
+  }
+
+  /**
+   * Serializes java object to a file, in the format matching its extension (see {@link DataFormat#fromFileName}).
+   *
+   * @param obj  object to serialize
+   * @param path target file
+   */
+  public static void serialize(Object obj, Path path) {
+    try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(path))) {
+      serialize(obj, DataFormat.fromFileName(path.toString()), outputStream);
+    } catch (IOException e) {
+      throw new PlaywrightException("Error serializing java object!", e);
+    }
+  }
+
+  static ObjectMapper sharedObjectMapper() {
+    return OBJECT_MAPPER;
+  }
+
+  static <M extends ObjectMapper> M configure(M objectMapper) {
+    // enable
+    objectMapper.configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
+    objectMapper.configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true);
+    objectMapper.configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE, true);
+    // disable
+    objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    // register
+    objectMapper.registerModule(new JavaTimeModule());
+    // customize
+    ServiceLoader.load(JacksonCustomizer.class).forEach(customizer -> {
+      log.debug("JacksonUtils: applying {} to {}.", customizer.getClass().getName(), objectMapper.getClass().getName());
+      customizer.customize(objectMapper);
+    });
+
+    return objectMapper;
+  }
+
+  private static <T> T deserialize(byte[] body, JavaType type) {
+    try {
+      return DataFormat.detect(body).readerFor(type).readValue(body);
+    } catch (IOException e) {
+      throw new PlaywrightException("Error reading data!", e);
+    }
+  }
+
+  private static JavaType elementType(Class<?> clazz) {
+    return OBJECT_MAPPER.constructType(clazz != null ? clazz : Object.class);
+  }
+
+  private static <T> Stream<T> toStream(MappingIterator<T> iterator) {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+        .onClose(() -> closeQuietly(iterator));
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    try {
+      closeable.close();
+    } catch (IOException e) {
+      log.debug("JacksonUtils: unable to close {}.", closeable, e);
+    }
+  }
 }
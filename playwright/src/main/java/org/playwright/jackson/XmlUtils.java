@@ -0,0 +1,203 @@
+package org.playwright.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.xml.XmlFactory;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.microsoft.playwright.PlaywrightException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * XML counterparts of the {@link JacksonUtils} helpers, backed by the shared {@link DataFormat#XML} mapper. <br><br>
+ *
+ * <p>{@link #streamElements(Path, String, Class)} binds repeated elements one at a time from a StAX reader, so large
+ * XML documents can be processed in constant memory.</p>
+ */
+@Slf4j
+public final class XmlUtils {
+
+  private XmlUtils() {
+    throw new PlaywrightException("XmlUtils should not be instantiated!");
+  }
+
+  /**
+   * Parse the children of the root element into Java list.
+   *
+   * @param body xml data
+   * @param <T>  class to convert data into
+   * @return List of objects
+   */
+  public static <T> List<T> deserializeToList(String body, Class<T> clazz) {
+    return deserialize(body, typeFactory().constructCollectionType(List.class, elementType(clazz)));
+  }
+
+  /**
+   * Parse the children of the root element into Java map.
+   *
+   * @param body xml data or file path to data
+   * @param <T>  class to convert data into
+   * @return map of objects
+   */
+  public static <T> Map<String, T> deserializeToMap(String body, Class<T> clazz) {
+    JavaType type = typeFactory().constructMapType(Map.class, elementType(String.class), elementType(clazz));
+
+    if (body.endsWith(DataFormat.XML.getExtension())) {
+      return JacksonUtils.getFixtureCache().read(Paths.get(body), type);
+    }
+    return deserialize(body, type);
+  }
+
+  /**
+   * Parse the root element into Java object.
+   *
+   * @param body xml data
+   * @param <T>  class to convert data into
+   * @return object
+   */
+  public static <T> T deserializeToObj(String body, Class<T> clazz) {
+    return deserialize(body, elementType(clazz));
+  }
+
+  /**
+   * Lazy, sequential stream over every element with the given local name, at any depth. Only the current element is
+   * held in memory. Close the stream (e.g. try-with-resources) to release the file.
+   *
+   * @param path        xml file
+   * @param elementName local name of the repeated element
+   * @param clazz       class to convert each element into
+   * @param <T>         element type
+   * @return stream of elements
+   */
+  public static <T> Stream<T> streamElements(Path path, String elementName, Class<T> clazz) {
+    try {
+      return streamElements(Files.newInputStream(path), elementName, clazz);
+    } catch (IOException e) {
+      throw new PlaywrightException("Error reading data!", e);
+    }
+  }
+
+  /**
+   * Lazy, sequential stream over every element with the given local name, at any depth. Only the current element is
+   * held in memory. Closing the stream closes the input stream.
+   *
+   * @param inputStream xml data
+   * @param elementName local name of the repeated element
+   * @param clazz       class to convert each element into
+   * @param <T>         element type
+   * @return stream of elements
+   */
+  public static <T> Stream<T> streamElements(InputStream inputStream, String elementName, Class<T> clazz) {
+    XmlFactory xmlFactory = xmlMapper().getFactory();
+    XMLStreamReader xmlStreamReader;
+    try {
+      xmlStreamReader = xmlFactory.getXMLInputFactory().createXMLStreamReader(inputStream);
+    } catch (XMLStreamException e) {
+      close(inputStream);
+      throw new PlaywrightException("Error reading data!", e);
+    }
+
+    ElementIterator<T> iterator = new ElementIterator<>(xmlFactory, xmlStreamReader, elementName,
+        DataFormat.XML.readerFor(elementType(clazz)));
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+        .onClose(() -> {
+          try {
+            xmlStreamReader.close();
+          } catch (XMLStreamException e) {
+            log.debug("XmlUtils: unable to close xml reader.", e);
+          }
+          close(inputStream);
+        });
+  }
+
+  private static <T> T deserialize(String body, JavaType type) {
+    try {
+      return DataFormat.XML.readerFor(type).readValue(body);
+    } catch (IOException e) {
+      throw new PlaywrightException("Error reading data!", e);
+    }
+  }
+
+  private static XmlMapper xmlMapper() {
+    return (XmlMapper) DataFormat.XML.objectMapper();
+  }
+
+  private static TypeFactory typeFactory() {
+    return xmlMapper().getTypeFactory();
+  }
+
+  private static JavaType elementType(Class<?> clazz) {
+    return typeFactory().constructType(clazz != null ? clazz : Object.class);
+  }
+
+  private static void close(InputStream inputStream) {
+    try {
+      inputStream.close();
+    } catch (IOException e) {
+      log.debug("XmlUtils: unable to close input stream.", e);
+    }
+  }
+
+  /**
+   * Advances the StAX reader to the next matching start element and binds that element only.
+   */
+  private static final class ElementIterator<T> implements Iterator<T> {
+    private final XmlFactory xmlFactory;
+    private final XMLStreamReader xmlStreamReader;
+    private final String elementName;
+    private final ObjectReader objectReader;
+    private boolean positioned;
+
+    ElementIterator(XmlFactory xmlFactory, XMLStreamReader xmlStreamReader, String elementName,
+                    ObjectReader objectReader) {
+      this.xmlFactory = xmlFactory;
+      this.xmlStreamReader = xmlStreamReader;
+      this.elementName = elementName;
+      this.objectReader = objectReader;
+    }
+
+    @Override
+    public boolean hasNext() {
+      try {
+        while (!positioned && xmlStreamReader.hasNext()) {
+          positioned = xmlStreamReader.next() == XMLStreamConstants.START_ELEMENT
+              && elementName.equals(xmlStreamReader.getLocalName());
+        }
+        return positioned;
+      } catch (XMLStreamException e) {
+        throw new PlaywrightException("Error reading data!", e);
+      }
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      positioned = false;
+      try {
+        // the parser consumes exactly this element, leaving the reader on its end tag
+        return objectReader.readValue(xmlFactory.createParser(xmlStreamReader));
+      } catch (IOException e) {
+        throw new PlaywrightException("Error reading data!", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package org.playwright.junit;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.util.Comparator;
+
+/**
+ * Orders test classes longest first, by their duration in earlier runs (see {@link DurationHistory}). Classes without
+ * history run first since they may be the longest. <br><br>
+ *
+ * <p>Starting the longest classes first keeps one long class from running alone at the end of a parallel run, so every
+ * worker stays busy until close to the end. Enable with
+ * {@code junit.jupiter.testclass.order.default=org.playwright.junit.DurationClassOrderer}.</p>
+ */
+public class DurationClassOrderer implements ClassOrderer {
+  private final DurationHistory history;
+
+  public DurationClassOrderer() {
+    this(DurationHistory.getInstance());
+  }
+
+  DurationClassOrderer(DurationHistory history) {
+    this.history = history;
+  }
+
+  @Override
+  public void orderClasses(ClassOrdererContext context) {
+    context.getClassDescriptors().sort(Comparator.comparingLong(
+        (ClassDescriptor descriptor) -> history.get(descriptor.getTestClass().getName()).orElse(Long.MAX_VALUE))
+        .reversed());
+  }
+}
@@ -0,0 +1,100 @@
+package org.playwright.junit;
+
+import com.microsoft.playwright.PlaywrightException;
+import lombok.extern.slf4j.Slf4j;
+import org.playwright.jackson.JacksonUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Durations of test classes in earlier runs, in milliseconds. <br><br>
+ *
+ * <p>Loaded once from the JSON file named by the {@value #PATH_PROPERTY} system property and rewritten by
+ * {@link #save()} at the end of a run. A class measured again is stored as the mean of its previous and new duration,
+ * which smooths out one-off slow runs.</p>
+ *
+ * <p>The default file, {@code ~/.cache/playwright-test-durations.json}, survives {@code mvn clean}. On CI, where the
+ * home directory is usually thrown away, set {@value #PATH_PROPERTY} to a path kept between builds (a cached directory
+ * or a committed file), otherwise every build starts without history.</p>
+ */
+@Slf4j
+public final class DurationHistory {
+  public static final String PATH_PROPERTY = "playwright.junit.durations";
+  static final Path DEFAULT_PATH = Path.of(System.getProperty("user.home"), ".cache",
+      "playwright-test-durations.json");
+
+  private static final DurationHistory INSTANCE = new DurationHistory(System.getProperty(PATH_PROPERTY) != null
+      ? Path.of(System.getProperty(PATH_PROPERTY))
+      : DEFAULT_PATH);
+
+  private final Path path;
+  private final Map<String, Long> previous;
+  private final Map<String, Long> recorded = new ConcurrentHashMap<>();
+
+  DurationHistory(Path path) {
+    this.path = path;
+    this.previous = load(path);
+  }
+
+  public static DurationHistory getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Duration of a test class in earlier runs.
+   *
+   * @param className fully qualified class name
+   * @return duration in milliseconds, empty when the class never ran
+   */
+  public OptionalLong get(String className) {
+    Long millis = previous.get(className);
+    return millis != null ? OptionalLong.of(millis) : OptionalLong.empty();
+  }
+
+  /**
+   * Record how long a test class took in this run.
+   *
+   * @param className fully qualified class name
+   * @param duration  duration of the class
+   */
+  public void record(String className, Duration duration) {
+    recorded.merge(className, duration.toMillis(), Long::sum);
+  }
+
+  /**
+   * Write the durations of earlier runs, updated with this run, to the history file.
+   */
+  public synchronized void save() {
+    Map<String, Long> durations = new TreeMap<>(previous);
+    recorded.forEach((className, millis) -> durations.merge(className, millis, (before, now) -> (before + now) / 2));
+
+    try {
+      Files.createDirectories(path.toAbsolutePath().getParent());
+      Path tmp = Files.createTempFile(path.toAbsolutePath().getParent(), "test-durations", ".json");
+      JacksonUtils.serialize(durations, tmp);
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException | PlaywrightException e) {
+      log.warn("DurationHistory: unable to write {}.", path, e);
+    }
+  }
+
+  private static Map<String, Long> load(Path path) {
+    if (!Files.isRegularFile(path)) {
+      return Map.of();
+    }
+    try {
+      return Map.copyOf(JacksonUtils.deserializeToMap(Files.readAllBytes(path), Long.class));
+    } catch (IOException | PlaywrightException e) {
+      log.warn("DurationHistory: unable to read {}, ignoring it.", path, e);
+      return Map.of();
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package org.playwright.junit;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.playwright.common.PlaywrightResource;
+import org.playwright.common.ResourceOptionArg;
+import org.playwright.core.PlaywrightResourceFactory;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * JUnit Jupiter extension handing out Playwright resources to tests. <br><br>
+ *
+ * <p>Test and lifecycle methods may declare {@link Playwright}, {@link Browser}, {@link BrowserContext} and {@link Page}
+ * parameters. Playwright and Browser are created once per worker thread and reused by every test running on it, so
+ * each worker is pinned to its own pair and there are as many browsers as workers. They are closed when the test plan
+ * finishes. Every test gets a new BrowserContext (and Page), closed after the test with
+ * {@link ResourceOptionArg#TEST_FAILED} when the test failed, so the tracing and video policies apply.</p>
+ *
+ * <p>The duration of every test class is recorded for the {@link DurationClassOrderer}. Together with the
+ * {@link WorkerParallelExecutionConfigurationStrategy}, a typical junit-platform.properties reads:</p>
+ *
+ * <pre>
+ * junit.jupiter.execution.parallel.enabled=true
+ * junit.jupiter.execution.parallel.mode.default=same_thread
+ * junit.jupiter.execution.parallel.mode.classes.default=concurrent
+ * junit.jupiter.execution.parallel.config.strategy=custom
+ * junit.jupiter.execution.parallel.config.custom.class=org.playwright.junit.WorkerParallelExecutionConfigurationStrategy
+ * junit.jupiter.testclass.order.default=org.playwright.junit.DurationClassOrderer
+ * </pre>
+ */
+public class PlaywrightExtension implements ParameterResolver, BeforeAllCallback, AfterAllCallback, AfterEachCallback {
+  private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(PlaywrightExtension.class);
+  private static final Set<Class<?>> SUPPORTED = Set.of(Playwright.class, Browser.class, BrowserContext.class,
+      Page.class);
+  private static final String STARTED = "started";
+
+  @Override
+  public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+    return SUPPORTED.contains(parameterContext.getParameter().getType());
+  }
+
+  @Override
+  public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+    Class<?> type = parameterContext.getParameter().getType();
+    WorkerResources worker = worker(extensionContext);
+    if (type == Playwright.class) {
+      return worker.playwright();
+    } else if (type == Browser.class) {
+      return worker.browser();
+    }
+
+    ExtensionContext.Store store = extensionContext.getStore(NAMESPACE);
+    BrowserContext browserContext = store.getOrComputeIfAbsent(BrowserContext.class,
+        key -> PlaywrightResourceFactory.create(PlaywrightResource.BROWSER_CONTEXT), BrowserContext.class);
+    return type == Page.class
+        ? store.getOrComputeIfAbsent(Page.class, key -> browserContext.newPage(), Page.class)
+        : browserContext;
+  }
+
+  @Override
+  public void beforeAll(ExtensionContext context) {
+    ExtensionContext.Store rootStore = context.getRoot().getStore(NAMESPACE);
+    rootStore.getOrComputeIfAbsent(DurationHistory.class,
+        key -> (ExtensionContext.Store.CloseableResource) DurationHistory.getInstance()::save);
+    context.getStore(NAMESPACE).put(STARTED, System.nanoTime());
+  }
+
+  @Override
+  public void afterEach(ExtensionContext context) {
+    closeBrowserContext(context);
+  }
+
+  @Override
+  public void afterAll(ExtensionContext context) {
+    closeBrowserContext(context);
+    Long started = context.getStore(NAMESPACE).remove(STARTED, Long.class);
+    if (started != null) {
+      DurationHistory.getInstance().record(context.getRequiredTestClass().getName(),
+          Duration.ofNanos(System.nanoTime() - started));
+    }
+  }
+
+  /**
+   * Playwright and Browser of the current worker thread, created on first use and closed with the root context.
+   */
+  private static WorkerResources worker(ExtensionContext context) {
+    return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(Thread.currentThread(),
+        thread -> new WorkerResources(PlaywrightResourceFactory.create(PlaywrightResource.PLAYWRIGHT),
+            PlaywrightResourceFactory.create(PlaywrightResource.BROWSER)),
+        WorkerResources.class);
+  }
+
+  private static void closeBrowserContext(ExtensionContext context) {
+    ExtensionContext.Store store = context.getStore(NAMESPACE);
+    store.remove(Page.class);
+    BrowserContext browserContext = store.remove(BrowserContext.class, BrowserContext.class);
+    if (browserContext == null) {
+      return;
+    }
+
+    if (context.getExecutionException().isPresent()) {
+      PlaywrightResourceFactory.close(browserContext, ResourceOptionArg.TEST_FAILED);
+    } else {
+      PlaywrightResourceFactory.close(browserContext);
+    }
+  }
+
+  /**
+   * Closed by JUnit once the test plan finished, when the worker threads are idle.
+   */
+  private record WorkerResources(Playwright playwright, Browser browser)
+      implements ExtensionContext.Store.CloseableResource {
+
+    @Override
+    public void close() {
+      PlaywrightResourceFactory.close(browser);
+      PlaywrightResourceFactory.close(playwright);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package org.playwright.junit;
+
+import com.microsoft.playwright.PlaywrightException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+import org.playwright.core.PlaywrightResourceFactory;
+import org.playwright.core.PrewarmQueue;
+
+/**
+ * Prewarms Playwright drivers and browsers as soon as the JUnit launcher session opens, so they start while tests are
+ * being discovered. Registered as a service and enabled with the {@value #PREWARM} system property: the number of
+ * driver and browser pairs, or {@code auto} for one per worker of the
+ * {@link WorkerParallelExecutionConfigurationStrategy}. Instances nobody took are closed with the session.
+ */
+@Slf4j
+public class PrewarmLauncherSessionListener implements LauncherSessionListener {
+  public static final String PREWARM = "playwright.prewarm";
+
+  @Override
+  public void launcherSessionOpened(LauncherSession session) {
+    if (!enabled()) {
+      return;
+    }
+
+    int count = count(System.getProperty(PREWARM));
+    if (count > 0) {
+      PlaywrightResourceFactory.prewarm(count);
+    }
+  }
+
+  @Override
+  public void launcherSessionClosed(LauncherSession session) {
+    if (!enabled()) {
+      return;
+    }
+
+    PrewarmQueue prewarmQueue = PrewarmQueue.getInstance();
+    if (prewarmQueue.getTaken() > 0 || prewarmQueue.getReady() > 0) {
+      log.info("PrewarmLauncherSessionListener: {} prewarmed instances taken, {} unused.", prewarmQueue.getTaken(),
+          prewarmQueue.getReady());
+    }
+    prewarmQueue.discard();
+  }
+
+  private static boolean enabled() {
+    String prewarm = System.getProperty(PREWARM);
+    return prewarm != null && !prewarm.isBlank();
+  }
+
+  static int count(String prewarm) {
+    if ("auto".equalsIgnoreCase(prewarm.strip())) {
+      return WorkerParallelExecutionConfigurationStrategy.workers(
+          WorkerParallelExecutionConfigurationStrategy.DEFAULT_MEMORY_PER_WORKER_MB);
+    }
+    try {
+      return Integer.parseInt(prewarm.strip());
+    } catch (NumberFormatException e) {
+      throw new PlaywrightException(PREWARM + " must be a number or 'auto', was: " + prewarm, e);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package org.playwright.junit;
+
+import com.microsoft.playwright.PlaywrightException;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * Parallel execution sized for one browser per worker. <br><br>
+ *
+ * <p>The number of workers is the number of CPUs, capped by the physical memory divided by
+ * {@value #MEMORY_PER_WORKER_MB} (default {@value #DEFAULT_MEMORY_PER_WORKER_MB} MB), or exactly {@value #WORKERS} when
+ * set. Unlike the JUnit dynamic strategy, the pool never grows beyond that number: no compensating threads are added
+ * while workers block, so there are never more Playwright/Browser pairs than workers. Enable with</p>
+ *
+ * <pre>
+ * junit.jupiter.execution.parallel.config.strategy=custom
+ * junit.jupiter.execution.parallel.config.custom.class=org.playwright.junit.WorkerParallelExecutionConfigurationStrategy
+ * </pre>
+ */
+public class WorkerParallelExecutionConfigurationStrategy implements ParallelExecutionConfigurationStrategy {
+  public static final String WORKERS = "playwright.junit.workers";
+  public static final String MEMORY_PER_WORKER_MB = "playwright.junit.worker.memoryMb";
+  static final long DEFAULT_MEMORY_PER_WORKER_MB = 1024;
+  private static final int KEEP_ALIVE_SECONDS = 30;
+
+  @Override
+  public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+    int workers = configurationParameters.get(WORKERS, Integer::valueOf)
+        .orElseGet(() -> workers(configurationParameters.get(MEMORY_PER_WORKER_MB, Long::valueOf)
+            .orElse(DEFAULT_MEMORY_PER_WORKER_MB)));
+    if (workers < 1) {
+      throw new PlaywrightException(WORKERS + " must be at least 1.");
+    }
+    return new WorkerConfiguration(workers);
+  }
+
+  /**
+   * Number of workers fitting this machine.
+   *
+   * @param memoryPerWorkerMb physical memory needed per worker, in MB
+   * @return number of workers, at least 1
+   */
+  public static int workers(long memoryPerWorkerMb) {
+    return workers(Runtime.getRuntime().availableProcessors(), totalMemoryMb(), memoryPerWorkerMb);
+  }
+
+  static int workers(int cpus, long memoryMb, long memoryPerWorkerMb) {
+    long byMemory = memoryMb > 0 && memoryPerWorkerMb > 0 ? memoryMb / memoryPerWorkerMb : cpus;
+    return (int) Math.max(1, Math.min(cpus, byMemory));
+  }
+
+  private static long totalMemoryMb() {
+    OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    if (os instanceof com.sun.management.OperatingSystemMXBean) {
+      return ((com.sun.management.OperatingSystemMXBean) os).getTotalMemorySize() / (1024 * 1024);
+    }
+    return 0;
+  }
+
+  /**
+   * Fixed size pool: core size, max size and parallelism are all the number of workers.
+   */
+  private record WorkerConfiguration(int workers) implements ParallelExecutionConfiguration {
+
+    @Override
+    public int getParallelism() {
+      return workers;
+    }
+
+    @Override
+    public int getMinimumRunnable() {
+      return workers;
+    }
+
+    @Override
+    public int getMaxPoolSize() {
+      return workers;
+    }
+
+    @Override
+    public int getCorePoolSize() {
+      return workers;
+    }
+
+    @Override
+    public int getKeepAliveSeconds() {
+      return KEEP_ALIVE_SECONDS;
+    }
+
+    @Override
+    public Predicate<? super ForkJoinPool> getSaturatePredicate() {
+      // keep running with the existing workers instead of failing when all of them are blocked
+      return pool -> true;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package org.playwright.metrics;
+
+import java.time.Duration;
+
+/**
+ * Sink of the timers and counters recorded around the resource lifecycle, see {@link Operation}. <br><br>
+ *
+ * <p>Tags are given as alternating key/value pairs. Implementations are called on the hot path of every test, from any
+ * thread, and must be thread-safe and cheap. Install one with {@link MetricsRecorderSingleton#setInstance}; nothing is
+ * recorded by default.</p>
+ */
+public interface MetricsRecorder {
+
+  /**
+   * Record how long an operation took.
+   *
+   * @param name     metric name
+   * @param duration duration of the operation
+   * @param tags     alternating tag keys and values
+   */
+  void recordTime(String name, Duration duration, String... tags);
+
+  /**
+   * Increment a counter by one.
+   *
+   * @param name metric name
+   * @param tags alternating tag keys and values
+   */
+  void increment(String name, String... tags);
+}
@@ -0,0 +1,24 @@
+package org.playwright.metrics;
+
+import com.microsoft.playwright.PlaywrightException;
+
+public class MetricsRecorderSingleton {
+  private static volatile MetricsRecorder metricsRecorder = NoopMetricsRecorder.INSTANCE;
+
+  private MetricsRecorderSingleton() {
+    throw new PlaywrightException("MetricsRecorderSingleton should not be instantiated!");
+  }
+
+  public static MetricsRecorder getInstance() {
+    return metricsRecorder;
+  }
+
+  /**
+   * Install the recorder receiving all metrics. Null restores the no-op default.
+   *
+   * @param metricsRecorder recorder
+   */
+  public static void setInstance(MetricsRecorder metricsRecorder) {
+    MetricsRecorderSingleton.metricsRecorder = metricsRecorder != null ? metricsRecorder : NoopMetricsRecorder.INSTANCE;
+  }
+}
@@ -0,0 +1,52 @@
+package org.playwright.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records metrics into a Micrometer {@link MeterRegistry}. Timers publish percentile histograms. Meters are looked up
+ * once per name and tags and cached. <br><br>
+ *
+ * <p>Micrometer is an optional dependency: add {@code io.micrometer:micrometer-core} to use this recorder.</p>
+ *
+ * <pre>{@code
+ * MetricsRecorderSingleton.setInstance(new MicrometerMetricsRecorder(meterRegistry));
+ * }</pre>
+ */
+public final class MicrometerMetricsRecorder implements MetricsRecorder {
+  private final MeterRegistry meterRegistry;
+  private final Map<List<String>, Timer> timers = new ConcurrentHashMap<>();
+  private final Map<List<String>, Counter> counters = new ConcurrentHashMap<>();
+
+  public MicrometerMetricsRecorder(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void recordTime(String name, Duration duration, String... tags) {
+    timers.computeIfAbsent(key(name, tags), key -> Timer.builder(name)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry))
+        .record(duration);
+  }
+
+  @Override
+  public void increment(String name, String... tags) {
+    counters.computeIfAbsent(key(name, tags), key -> Counter.builder(name).tags(tags).register(meterRegistry))
+        .increment();
+  }
+
+  private static List<String> key(String name, String... tags) {
+    String[] key = new String[tags.length + 1];
+    key[0] = name;
+    System.arraycopy(tags, 0, key, 1, tags.length);
+    return List.of(key);
+  }
+}
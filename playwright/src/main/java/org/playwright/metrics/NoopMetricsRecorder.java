@@ -0,0 +1,23 @@
+package org.playwright.metrics;
+
+import java.time.Duration;
+
+/**
+ * Default recorder: records nothing.
+ */
+final class NoopMetricsRecorder implements MetricsRecorder {
+  static final NoopMetricsRecorder INSTANCE = new NoopMetricsRecorder();
+
+  private NoopMetricsRecorder() {
+  }
+
+  @Override
+  public void recordTime(String name, Duration duration, String... tags) {
+    // no-op
+  }
+
+  @Override
+  public void increment(String name, String... tags) {
+    // no-op
+  }
+}
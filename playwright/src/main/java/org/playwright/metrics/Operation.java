@@ -0,0 +1,28 @@
+package org.playwright.metrics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Supplier;
+
+/**
+ * Timed operations of the resource lifecycle: metric name, tag key of the subject and JFR event of each.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Operation {
+  RESOURCE_CREATE("playwright.resource.create", "resource", ResourceCreateEvent::new),
+  RESOURCE_CLOSE("playwright.resource.close", "resource", ResourceCloseEvent::new),
+  TRACING_STOP("playwright.tracing.stop", "retained", TracingStopEvent::new),
+  WAIT("playwright.wait", "condition", WaitEvent::new);
+
+  private final String metricName;
+  private final String tagKey;
+  @Getter(AccessLevel.NONE)
+  private final Supplier<PlaywrightEvent> event;
+
+  PlaywrightEvent newEvent() {
+    return event.get();
+  }
+}
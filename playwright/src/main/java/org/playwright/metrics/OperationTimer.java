@@ -0,0 +1,50 @@
+package org.playwright.metrics;
+
+import java.time.Duration;
+
+/**
+ * Times one {@link Operation}: records a timer in the {@link MetricsRecorderSingleton} and emits the JFR event of the
+ * operation when it is closed.
+ *
+ * <pre>{@code
+ * try (OperationTimer ignored = OperationTimer.start(Operation.RESOURCE_CREATE, resource.name())) {
+ *   ...
+ * }
+ * }</pre>
+ */
+public final class OperationTimer implements AutoCloseable {
+  private final Operation operation;
+  private final String subject;
+  private final PlaywrightEvent event;
+  private final long start;
+
+  private OperationTimer(Operation operation, String subject) {
+    this.operation = operation;
+    this.subject = subject;
+    this.event = operation.newEvent();
+    this.event.begin();
+    this.start = System.nanoTime();
+  }
+
+  /**
+   * Start timing an operation.
+   *
+   * @param operation operation
+   * @param subject   what the operation applies to, recorded as the operation tag
+   * @return timer, to be closed when the operation ends
+   */
+  public static OperationTimer start(Operation operation, String subject) {
+    return new OperationTimer(operation, subject);
+  }
+
+  @Override
+  public void close() {
+    Duration took = Duration.ofNanos(System.nanoTime() - start);
+    event.end();
+    if (event.shouldCommit()) {
+      event.subject = subject;
+      event.commit();
+    }
+    MetricsRecorderSingleton.getInstance().recordTime(operation.getMetricName(), took, operation.getTagKey(), subject);
+  }
+}
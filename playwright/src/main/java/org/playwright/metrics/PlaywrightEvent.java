@@ -0,0 +1,14 @@
+package org.playwright.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base of the JDK Flight Recorder events of this library. Events cost next to nothing unless a recording enables them.
+ */
+@Category("Playwright")
+abstract class PlaywrightEvent extends Event {
+  @Label("Subject")
+  String subject;
+}
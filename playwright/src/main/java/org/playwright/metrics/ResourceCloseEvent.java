@@ -0,0 +1,11 @@
+package org.playwright.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.playwright.ResourceClose")
+@Label("Resource Close")
+@Description("Close of a Playwright resource; subject is the PlaywrightResource.")
+final class ResourceCloseEvent extends PlaywrightEvent {
+}
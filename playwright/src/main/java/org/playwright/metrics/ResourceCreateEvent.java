@@ -0,0 +1,11 @@
+package org.playwright.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.playwright.ResourceCreate")
+@Label("Resource Create")
+@Description("Creation of a Playwright resource; subject is the PlaywrightResource.")
+final class ResourceCreateEvent extends PlaywrightEvent {
+}
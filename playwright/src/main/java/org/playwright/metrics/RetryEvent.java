@@ -0,0 +1,19 @@
+package org.playwright.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.playwright.Retry")
+@Label("Retry")
+@Category("Playwright")
+@Description("Failed attempt of FailsafeRetry that is about to be retried.")
+final class RetryEvent extends Event {
+  @Label("Attempt")
+  int attempt;
+
+  @Label("Reason")
+  String reason;
+}
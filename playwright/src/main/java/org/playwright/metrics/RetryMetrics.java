@@ -0,0 +1,40 @@
+package org.playwright.metrics;
+
+import com.microsoft.playwright.PlaywrightException;
+
+import java.util.function.Supplier;
+
+/**
+ * Counters and JFR event of the retries performed by FailsafeRetry.
+ */
+public final class RetryMetrics {
+  public static final String RETRIES = "playwright.failsafe.retries";
+  public static final String RETRIES_EXCEEDED = "playwright.failsafe.retries.exceeded";
+
+  private RetryMetrics() {
+    throw new PlaywrightException("RetryMetrics should not be instantiated!");
+  }
+
+  /**
+   * Count a failed attempt that is about to be retried and emit its JFR event.
+   *
+   * @param attempt number of the failed attempt
+   * @param reason  why the attempt failed, only evaluated when the event is recorded
+   */
+  public static void retried(int attempt, Supplier<String> reason) {
+    RetryEvent event = new RetryEvent();
+    if (event.shouldCommit()) {
+      event.attempt = attempt;
+      event.reason = reason.get();
+      event.commit();
+    }
+    MetricsRecorderSingleton.getInstance().increment(RETRIES);
+  }
+
+  /**
+   * Count an execution whose retries are exhausted.
+   */
+  public static void retriesExceeded() {
+    MetricsRecorderSingleton.getInstance().increment(RETRIES_EXCEEDED);
+  }
+}
@@ -0,0 +1,11 @@
+package org.playwright.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.playwright.TracingStop")
+@Label("Tracing Stop")
+@Description("Stop of a trace chunk; subject tells whether the chunk was retained.")
+final class TracingStopEvent extends PlaywrightEvent {
+}
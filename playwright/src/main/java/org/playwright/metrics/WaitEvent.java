@@ -0,0 +1,11 @@
+package org.playwright.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.playwright.Wait")
+@Label("Wait")
+@Description("Wait of WaitUtils for a page to settle; subject is the WaitCondition.")
+final class WaitEvent extends PlaywrightEvent {
+}
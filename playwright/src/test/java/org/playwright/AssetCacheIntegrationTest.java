@@ -0,0 +1,130 @@
+package org.playwright;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.playwright.common.PlaywrightResource;
+import org.playwright.core.AssetCache;
+import org.playwright.core.PlaywrightResourceFactory;
+import org.playwright.core.options.AssetCacheOption;
+import org.playwright.core.options.BrowserContextOption;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class AssetCacheIntegrationTest {
+  private static final String PAGE = "<html><head><script src='/fresh.js'></script><script src='/stale.js'></script>"
+      + "</head><body></body></html>";
+  private static final String ETAG = "\"v1\"";
+  private static final int NOT_MODIFIED = 304;
+
+  private static final AtomicInteger FRESH_SERVED = new AtomicInteger();
+  private static final AtomicInteger STALE_SERVED = new AtomicInteger();
+  private static final AtomicInteger NOT_MODIFIED_SERVED = new AtomicInteger();
+
+  @TempDir
+  static Path cacheDir;
+
+  private static ExecutorService executor;
+  private static HttpServer server;
+  private static String origin;
+  private static Playwright playwright;
+  private static Browser browser;
+
+  @BeforeAll
+  static void setUp() throws IOException {
+    executor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.setExecutor(executor);
+    server.createContext("/page", exchange -> respond(exchange, 200, "text/html", "no-store", PAGE));
+    server.createContext("/fresh.js", exchange -> {
+      FRESH_SERVED.incrementAndGet();
+      respond(exchange, 200, "text/javascript", "max-age=3600", "window.fresh = true;");
+    });
+    server.createContext("/stale.js", exchange -> {
+      exchange.getResponseHeaders().set("ETag", ETAG);
+      if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+        NOT_MODIFIED_SERVED.incrementAndGet();
+        exchange.sendResponseHeaders(NOT_MODIFIED, -1);
+        exchange.close();
+        return;
+      }
+      STALE_SERVED.incrementAndGet();
+      respond(exchange, 200, "text/javascript", "no-cache", "window.stale = true;");
+    });
+    server.start();
+    origin = "http://127.0.0.1:" + server.getAddress().getPort();
+
+    playwright = PlaywrightResourceFactory.create(PlaywrightResource.PLAYWRIGHT);
+    browser = PlaywrightResourceFactory.create(PlaywrightResource.BROWSER);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    if (browser != null) {
+      PlaywrightResourceFactory.close(browser);
+    }
+    if (playwright != null) {
+      PlaywrightResourceFactory.close(playwright);
+    }
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  @Test
+  void testAssetCacheIntegration_ServesHitsAndRevalidates() {
+    AssetCacheOption assetCacheOption = AssetCacheOption.builder().directory(cacheDir).build();
+    BrowserContextOption browserContextOption = BrowserContextOption.builder().assetCache(assetCacheOption).build();
+    AssetCache assetCache = AssetCache.forOption(assetCacheOption);
+
+    load(browserContextOption);
+    Assertions.assertEquals(2, assetCache.getMisses());
+
+    // a new context, so the browser's own HTTP cache doesn't answer before the route
+    load(browserContextOption);
+
+    Assertions.assertEquals(1, FRESH_SERVED.get(), "A fresh asset should be served from disk.");
+    Assertions.assertEquals(1, assetCache.getHits());
+    Assertions.assertEquals(1, STALE_SERVED.get());
+    Assertions.assertEquals(1, NOT_MODIFIED_SERVED.get(), "A stale asset should be revalidated with its ETag.");
+    Assertions.assertEquals(1, assetCache.getRevalidated());
+  }
+
+  private static void load(BrowserContextOption browserContextOption) {
+    BrowserContext browserContext = PlaywrightResourceFactory.create(PlaywrightResource.BROWSER_CONTEXT,
+        browserContextOption);
+    try {
+      Page page = browserContext.newPage();
+      page.navigate(origin + "/page");
+
+      Assertions.assertEquals(true, page.evaluate("() => window.fresh && window.stale"));
+    } finally {
+      PlaywrightResourceFactory.close(browserContext);
+    }
+  }
+
+  private static void respond(HttpExchange exchange, int status, String contentType, String cacheControl, String body)
+      throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", contentType);
+    exchange.getResponseHeaders().set("Cache-Control", cacheControl);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package org.playwright;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.playwright.common.PlaywrightResource;
+import org.playwright.common.WaitUtils;
+import org.playwright.core.BrowserContextPool;
+import org.playwright.core.PlaywrightResourceFactory;
+import org.playwright.core.options.BrowserContextPoolOption;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class BrowserIntegrationTest {
+  private static final String SLOW_PAGE = "<html><body><script>fetch('/slow');</script></body></html>";
+  private static final String BLANK_PAGE = "<html><body></body></html>";
+  private static final String DATA = "{\"id\":1}";
+
+  private static final AtomicBoolean SLOW_SERVED = new AtomicBoolean();
+  private static ExecutorService executor;
+  private static HttpServer server;
+  private static String origin;
+  private static Playwright playwright;
+  private static Browser browser;
+
+  @BeforeAll
+  static void setUp() throws IOException {
+    // real browser against a local origin, so the pools and waits are exercised on actual network events
+    executor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.setExecutor(executor);
+    server.createContext("/slow-page", exchange -> respond(exchange, "text/html", SLOW_PAGE));
+    server.createContext("/blank", exchange -> respond(exchange, "text/html", BLANK_PAGE));
+    server.createContext("/data", exchange -> respond(exchange, "application/json", DATA));
+    server.createContext("/slow", exchange -> {
+      try {
+        Thread.sleep(1500);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      SLOW_SERVED.set(true);
+      respond(exchange, "text/plain", "done");
+    });
+    server.start();
+    origin = "http://127.0.0.1:" + server.getAddress().getPort();
+
+    playwright = PlaywrightResourceFactory.create(PlaywrightResource.PLAYWRIGHT);
+    browser = PlaywrightResourceFactory.create(PlaywrightResource.BROWSER);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    if (browser != null) {
+      PlaywrightResourceFactory.close(browser);
+    }
+    if (playwright != null) {
+      PlaywrightResourceFactory.close(playwright);
+    }
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  @Test
+  void testBrowserIntegration_WaitsForRequestStartedBeforeTheWait() {
+    BrowserContext browserContext = PlaywrightResourceFactory.create(PlaywrightResource.BROWSER_CONTEXT);
+    try {
+      Page page = browserContext.newPage();
+      page.navigate(origin + "/slow-page");
+      WaitUtils.waitForAllLoadStates(page);
+
+      Assertions.assertTrue(SLOW_SERVED.get(), "The wait should only return once the fetch started by the page during "
+          + "the navigation has completed.");
+    } finally {
+      PlaywrightResourceFactory.close(browserContext);
+    }
+  }
+
+  @Test
+  void testBrowserIntegration_ReturnsNavigationResponseBody() {
+    BrowserContext browserContext = PlaywrightResourceFactory.create(PlaywrightResource.BROWSER_CONTEXT);
+    try {
+      Page page = browserContext.newPage();
+
+      Assertions.assertEquals(DATA, WaitUtils.waitForResponseOnNavigation(page, origin + "/data", "/data"));
+    } finally {
+      PlaywrightResourceFactory.close(browserContext);
+    }
+  }
+
+  @Test
+  void testBrowserIntegration_PooledContextDoesNotLeakState() {
+    BrowserContextPool pool = PlaywrightResourceFactory.create(PlaywrightResource.BROWSER_CONTEXT_POOL,
+        BrowserContextPoolOption.builder().reuseReleasedContexts(true).build());
+    try {
+      BrowserContext first = PlaywrightResourceFactory.create(PlaywrightResource.BROWSER_CONTEXT);
+      Page page = first.newPage();
+      page.navigate(origin + "/blank");
+      page.evaluate("() => { sessionStorage.setItem('key', 'value'); document.cookie = 'key=value'; }");
+      PlaywrightResourceFactory.close(first);
+
+      BrowserContext second = PlaywrightResourceFactory.create(PlaywrightResource.BROWSER_CONTEXT);
+      Assertions.assertSame(first, second, "The released context should be reused.");
+      Page next = second.newPage();
+      next.navigate(origin + "/blank");
+
+      Assertions.assertNull(next.evaluate("() => sessionStorage.getItem('key')"), "sessionStorage should not leak "
+          + "into the next test.");
+      Assertions.assertEquals("", next.evaluate("() => document.cookie"), "Cookies should not leak into the next "
+          + "test.");
+      PlaywrightResourceFactory.close(second);
+    } finally {
+      PlaywrightResourceFactory.close(pool);
+    }
+  }
+
+  private static void respond(HttpExchange exchange, String contentType, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", contentType);
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}
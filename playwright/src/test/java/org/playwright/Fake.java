@@ -0,0 +1,139 @@
+package org.playwright;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Fake of a Playwright (or any other) interface for unit tests. <br><br>
+ *
+ * <p>Methods answer what was configured for their name, otherwise null, or zero and false for primitives. Listeners
+ * registered with {@code onXxx(Consumer)} are kept until removed with {@code offXxx(Consumer)}, so a test can
+ * {@link #emit(String, Object)} events. Calls are recorded by method name; equals and hashCode are identity based.</p>
+ *
+ * @param <T> faked interface
+ */
+public final class Fake<T> {
+  private final Class<T> type;
+  private final T instance;
+  private final Map<String, Answer> answers = new ConcurrentHashMap<>();
+  private final Map<String, List<Consumer<Object>>> listeners = new ConcurrentHashMap<>();
+  private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+
+  private Fake(Class<T> type) {
+    this.type = type;
+    this.instance = type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, this::invoke));
+  }
+
+  public static <T> Fake<T> of(Class<T> type) {
+    return new Fake<>(type);
+  }
+
+  /**
+   * Fake without any configured answer.
+   *
+   * @param type faked interface
+   * @param <T>  faked interface
+   * @return fake instance
+   */
+  public static <T> T stub(Class<T> type) {
+    return of(type).get();
+  }
+
+  /**
+   * Answer the given value to every call of the method.
+   *
+   * @param method method name
+   * @param value  returned value
+   * @return this fake
+   */
+  public Fake<T> returns(String method, Object value) {
+    return answers(method, methodArgs -> value);
+  }
+
+  /**
+   * Answer calls of the method with the given answer.
+   *
+   * @param method method name
+   * @param answer answer, called with the method arguments
+   * @return this fake
+   */
+  public Fake<T> answers(String method, Answer answer) {
+    answers.put(method, answer);
+    return this;
+  }
+
+  public T get() {
+    return instance;
+  }
+
+  /**
+   * Names of the methods called so far, in order.
+   *
+   * @return method names
+   */
+  public List<String> calls() {
+    synchronized (calls) {
+      return List.copyOf(calls);
+    }
+  }
+
+  public int listenerCount(String event) {
+    return listeners.getOrDefault(event, List.of()).size();
+  }
+
+  /**
+   * Call the listeners registered for an event, e.g. {@code emit("onRequest", request)}.
+   *
+   * @param event   name of the method registering the listeners
+   * @param payload event payload
+   */
+  public void emit(String event, Object payload) {
+    listeners.getOrDefault(event, List.of()).forEach(listener -> listener.accept(payload));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    String name = method.getName();
+    Object[] methodArgs = args != null ? args : new Object[0];
+    if ("hashCode".equals(name) && methodArgs.length == 0) {
+      return System.identityHashCode(proxy);
+    } else if ("equals".equals(name) && methodArgs.length == 1) {
+      return proxy == methodArgs[0];
+    } else if ("toString".equals(name) && methodArgs.length == 0) {
+      return "Fake " + type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+    }
+
+    calls.add(name);
+    Answer answer = answers.get(name);
+    if (answer != null) {
+      return answer.answer(methodArgs);
+    }
+    if (methodArgs.length == 1 && methodArgs[0] instanceof Consumer) {
+      if (name.startsWith("on")) {
+        listeners.computeIfAbsent(name, event -> new CopyOnWriteArrayList<>()).add((Consumer<Object>) methodArgs[0]);
+        return null;
+      } else if (name.startsWith("off")) {
+        listeners.getOrDefault("on" + name.substring("off".length()), List.of()).remove(methodArgs[0]);
+        return null;
+      }
+    }
+    Class<?> returnType = method.getReturnType();
+    return returnType.isPrimitive() && returnType != void.class ? Array.get(Array.newInstance(returnType, 1), 0) : null;
+  }
+
+  /**
+   * Answer of a faked method.
+   */
+  @FunctionalInterface
+  public interface Answer {
+    Object answer(Object[] methodArgs) throws Throwable;
+  }
+}
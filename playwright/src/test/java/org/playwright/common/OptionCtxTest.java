@@ -0,0 +1,73 @@
+package org.playwright.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.playwright.core.options.BrowserContextOption;
+import org.playwright.core.options.IOption;
+import org.playwright.core.options.TracingStartOption;
+
+import java.util.concurrent.CompletableFuture;
+
+class OptionCtxTest {
+  private static final BrowserContextOption GLOBAL_OPTION = BrowserContextOption.builder().recordVideoDir("global").build();
+  private static final BrowserContextOption SUITE_OPTION = BrowserContextOption.builder().recordVideoDir("suite").build();
+  private static final BrowserContextOption TEST_OPTION = BrowserContextOption.builder().recordVideoDir("test").build();
+
+  @AfterEach
+  void clearAllScopes() {
+    for (OptionCtx.Scope scope : OptionCtx.Scope.values()) {
+      OptionCtx.clear(scope);
+    }
+  }
+
+  @Test
+  void testOptionCtx_MostSpecificScopeWins() {
+    OptionCtx.add(OptionCtx.Scope.GLOBAL, OptionCtx.Key.BROWSER_CONTEXT_OPTION, GLOBAL_OPTION);
+    Assertions.assertEquals(GLOBAL_OPTION, OptionCtx.get(OptionCtx.Key.BROWSER_CONTEXT_OPTION));
+
+    OptionCtx.add(OptionCtx.Scope.SUITE, OptionCtx.Key.BROWSER_CONTEXT_OPTION, SUITE_OPTION);
+    Assertions.assertEquals(SUITE_OPTION, OptionCtx.get(OptionCtx.Key.BROWSER_CONTEXT_OPTION));
+
+    OptionCtx.add(OptionCtx.Key.BROWSER_CONTEXT_OPTION, TEST_OPTION);
+    Assertions.assertEquals(TEST_OPTION, OptionCtx.getContext().get(OptionCtx.Key.BROWSER_CONTEXT_OPTION));
+
+    OptionCtx.clearTestContext();
+    Assertions.assertEquals(SUITE_OPTION, OptionCtx.get(OptionCtx.Key.BROWSER_CONTEXT_OPTION),
+        "Clearing the test context should expose the next scope again.");
+  }
+
+  @Test
+  void testOptionCtx_ThreadScopesAreIsolated() {
+    OptionCtx.add(OptionCtx.Scope.GLOBAL, OptionCtx.Key.BROWSER_CONTEXT_OPTION, GLOBAL_OPTION);
+    OptionCtx.add(OptionCtx.Key.BROWSER_CONTEXT_OPTION, TEST_OPTION);
+
+    IOption<?> seenByOtherThread = CompletableFuture
+        .supplyAsync(() -> OptionCtx.get(OptionCtx.Key.BROWSER_CONTEXT_OPTION))
+        .join();
+
+    Assertions.assertEquals(GLOBAL_OPTION, seenByOtherThread, "Test scoped options should not leak to other threads.");
+  }
+
+  @Test
+  void testOptionCtx_SnapshotIsImmutable() {
+    OptionCtx.add(OptionCtx.Key.BROWSER_CONTEXT_OPTION, TEST_OPTION);
+    var snapshot = OptionCtx.getContext();
+
+    OptionCtx.add(OptionCtx.Key.TRACE_START_OPTION, TracingStartOption.builder().build());
+
+    Assertions.assertFalse(snapshot.containsKey(OptionCtx.Key.TRACE_START_OPTION),
+        "A snapshot should not observe later writes.");
+    Assertions.assertThrows(UnsupportedOperationException.class,
+        () -> snapshot.remove(OptionCtx.Key.BROWSER_CONTEXT_OPTION));
+  }
+
+  @Test
+  void testOptionCtx_GetOrDefault() {
+    BrowserContextOption option = OptionCtx.getOrDefault(OptionCtx.Key.BROWSER_CONTEXT_OPTION,
+        () -> BrowserContextOption.builder().build());
+
+    Assertions.assertEquals(BrowserContextOption.builder().build(), option);
+    Assertions.assertFalse(OptionCtx.exists(OptionCtx.Key.BROWSER_CONTEXT_OPTION));
+  }
+}
@@ -0,0 +1,78 @@
+package org.playwright.common;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Response;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.playwright.Fake;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+class ResponseCaptureTest {
+  private final Fake<Page> fakePage = Fake.of(Page.class);
+  private final AtomicInteger bodyReads = new AtomicInteger();
+
+  @Test
+  void testResponseCapture_KeepsLatestResponsesAndCountsDropped() {
+    try (ResponseCapture capture = new ResponseCapture(fakePage.get(), r -> r.url().contains("/api/"), 2)) {
+      List.of("/api/1", "/static/app.js", "/api/2", "/api/3").forEach(url -> emit(fakeResponse(url)));
+
+      Assertions.assertEquals(List.of("/api/2", "/api/3"), capture.getResponses().stream()
+          .map(ResponseCapture.CapturedResponse::getUrl)
+          .collect(Collectors.toList()));
+      Assertions.assertEquals(3, capture.getCaptured());
+      Assertions.assertEquals(1, capture.getDropped());
+    }
+  }
+
+  @Test
+  void testResponseCapture_FetchesBodyLazilyOnce() {
+    try (ResponseCapture capture = new ResponseCapture(fakePage.get(), r -> true, 4)) {
+      emit(fakeResponse("/api/1"));
+      Assertions.assertEquals(0, bodyReads.get(), "Bodies should not be read while capturing.");
+
+      ResponseCapture.CapturedResponse last = capture.last().orElseThrow();
+      Assertions.assertEquals("body of /api/1", last.text());
+      Assertions.assertEquals("body of /api/1", last.text());
+      Assertions.assertEquals(1, bodyReads.get());
+    }
+  }
+
+  @Test
+  void testResponseCapture_ReadsBodyEagerlyWhenAsked() {
+    try (ResponseCapture capture = new ResponseCapture(fakePage.get(), r -> true, 4, true)) {
+      emit(fakeResponse("/api/1"));
+      Assertions.assertEquals(1, bodyReads.get(), "Bodies should be read as responses arrive.");
+
+      Assertions.assertEquals("body of /api/1", capture.last().orElseThrow().text());
+      Assertions.assertEquals(1, bodyReads.get());
+    }
+  }
+
+  @Test
+  void testResponseCapture_RemovesListenerOnClose() {
+    ResponseCapture capture = new ResponseCapture(fakePage.get(), r -> true, 4);
+    capture.close();
+    emit(fakeResponse("/api/1"));
+
+    Assertions.assertEquals(0, fakePage.listenerCount("onResponse"));
+    Assertions.assertEquals(0, capture.getCaptured());
+  }
+
+  private void emit(Response response) {
+    fakePage.emit("onResponse", response);
+  }
+
+  private Response fakeResponse(String url) {
+    return Fake.of(Response.class)
+        .returns("url", url)
+        .returns("status", 200)
+        .answers("text", methodArgs -> {
+          bodyReads.incrementAndGet();
+          return "body of " + url;
+        })
+        .get();
+  }
+}
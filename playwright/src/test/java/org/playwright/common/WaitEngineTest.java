@@ -0,0 +1,112 @@
+package org.playwright.common;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.TimeoutError;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.playwright.Fake;
+import org.playwright.core.options.WaitCondition;
+import org.playwright.core.options.WaitOption;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+class WaitEngineTest {
+  private static final WaitOption NETWORK_QUIET = WaitOption.builder()
+      .condition(WaitCondition.NETWORK_QUIET)
+      .quietMillis(20)
+      .pollMillis(5)
+      .timeoutMillis(2000)
+      .build();
+
+  private final Queue<Runnable> onWait = new ArrayDeque<>();
+  private final Fake<Page> fakePage = Fake.of(Page.class).answers("waitForTimeout", methodArgs -> {
+    Runnable action = onWait.poll();
+    if (action != null) {
+      action.run();
+    }
+    Thread.sleep(((Double) methodArgs[0]).longValue());
+    return null;
+  });
+
+  @Test
+  void testWaitEngine_ResolvesOnceTrackedRequestsFinish() {
+    Page page = fakePage.get();
+    Request xhr = fakeRequest("https://app/api", "xhr");
+
+    try (WaitEngine waitEngine = new WaitEngine(page, NETWORK_QUIET)) {
+      fakePage.emit("onRequest", xhr);
+      onWait.add(() -> Assertions.assertEquals(1, waitEngine.getInFlight()));
+      onWait.add(() -> fakePage.emit("onRequestFinished", xhr));
+
+      Duration took = waitEngine.await();
+
+      Assertions.assertEquals(0, waitEngine.getInFlight());
+      Assertions.assertTrue(took.toMillis() >= NETWORK_QUIET.getQuietMillis(), "The network should be quiet first.");
+    }
+    Assertions.assertEquals(0, fakePage.listenerCount("onRequest") + fakePage.listenerCount("onRequestFinished")
+        + fakePage.listenerCount("onRequestFailed"), "Listeners should be removed.");
+  }
+
+  @Test
+  void testWaitEngine_WaitsForRequestStartedBeforeTheWait() {
+    Fake<BrowserContext> context = Fake.of(BrowserContext.class).returns("pages", List.of());
+    RequestTracker.attach(context.get());
+    context.emit("onPage", fakePage.get());
+    Request xhr = fakeRequest("https://app/api/started-by-navigation", "xhr");
+    fakePage.emit("onRequest", xhr);
+
+    try (WaitEngine waitEngine = new WaitEngine(fakePage.get(), NETWORK_QUIET)) {
+      Assertions.assertEquals(1, waitEngine.getInFlight(), "A request fired before the wait should be tracked.");
+      onWait.add(() -> fakePage.emit("onRequestFinished", xhr));
+
+      waitEngine.await();
+
+      Assertions.assertTrue(onWait.isEmpty(), "The wait should have lasted until the request finished.");
+      Assertions.assertEquals(0, waitEngine.getInFlight());
+    }
+    fakePage.emit("onClose", fakePage.get());
+    Assertions.assertEquals(Set.of(), RequestTracker.inFlight(fakePage.get()));
+  }
+
+  @Test
+  void testWaitEngine_IgnoresConfiguredRequests() {
+    Page page = fakePage.get();
+    WaitOption waitOption = NETWORK_QUIET.toBuilder().ignoreUrlPatterns(List.of("/collect\\b")).build();
+
+    try (WaitEngine waitEngine = new WaitEngine(page, waitOption)) {
+      fakePage.emit("onRequest", fakeRequest("https://analytics/collect?v=1", "xhr"));
+      fakePage.emit("onRequest", fakeRequest("wss://app/socket", "websocket"));
+
+      Assertions.assertEquals(0, waitEngine.getInFlight());
+      Assertions.assertTrue(waitEngine.await().toMillis() < waitOption.getTimeoutMillis());
+    }
+  }
+
+  @Test
+  void testWaitEngine_TimesOutAndRecordsDuration() {
+    Page page = fakePage.get();
+    WaitOption waitOption = NETWORK_QUIET.toBuilder().timeoutMillis(50).build();
+    long waitsBefore = WaitEngine.getDurations(WaitCondition.NETWORK_QUIET).getCount();
+
+    try (WaitEngine waitEngine = new WaitEngine(page, waitOption)) {
+      fakePage.emit("onRequest", fakeRequest("https://app/long-poll", "fetch"));
+
+      TimeoutError error = Assertions.assertThrows(TimeoutError.class, waitEngine::await);
+      Assertions.assertTrue(error.getMessage().contains("https://app/long-poll"));
+    }
+    Assertions.assertEquals(waitsBefore + 1, WaitEngine.getDurations(WaitCondition.NETWORK_QUIET).getCount());
+  }
+
+  private static Request fakeRequest(String url, String resourceType) {
+    return Fake.of(Request.class)
+        .returns("url", url)
+        .returns("resourceType", resourceType)
+        .get();
+  }
+}
@@ -0,0 +1,45 @@
+package org.playwright.common;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Response;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.playwright.Fake;
+import org.playwright.core.options.WaitCondition;
+import org.playwright.core.options.WaitOption;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class WaitUtilsTest {
+  private final AtomicBoolean navigated = new AtomicBoolean();
+
+  @Test
+  void testWaitUtils_ResponseBodyIsReadBeforeNavigationClearsIt() {
+    Response response = Fake.of(Response.class)
+        .returns("url", "https://app/api/profile")
+        .returns("status", 200)
+        .answers("text", methodArgs -> {
+          if (navigated.get()) {
+            throw new PlaywrightException("Response body is unavailable after navigation");
+          }
+          return "{\"name\":\"profile\"}";
+        })
+        .get();
+    Fake<Page> page = Fake.of(Page.class);
+    page.answers("waitForResponse", methodArgs -> {
+      ((Runnable) methodArgs[1]).run();
+      page.emit("onResponse", response);
+      navigated.set(true);
+      return response;
+    });
+
+    OptionCtx.add(OptionCtx.Key.WAIT_OPTION, WaitOption.builder().condition(WaitCondition.LOAD).build());
+    try {
+      Assertions.assertEquals("{\"name\":\"profile\"}",
+          WaitUtils.waitForResponseOnNavigation(page.get(), "https://app/", "/api/profile"));
+    } finally {
+      OptionCtx.clearTestContext();
+    }
+  }
+}
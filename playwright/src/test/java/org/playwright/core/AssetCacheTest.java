@@ -0,0 +1,118 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.playwright.Fake;
+import org.playwright.core.options.AssetCacheOption;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+class AssetCacheTest {
+  private static final Map<String, String> CACHEABLE = Map.of("cache-control", "public, max-age=3600",
+      "content-type", "text/javascript", "content-encoding", "gzip");
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void testAssetCache_StoresContentAddressedAndSurvivesRestart() {
+    AssetCache assetCache = new AssetCache(option(1024));
+    AssetCache.Asset first = assetCache.store("https://app/a.js", 200, CACHEABLE, "bundle".getBytes());
+    AssetCache.Asset second = assetCache.store("https://app/b.js?v=2", 200, CACHEABLE, "bundle".getBytes());
+
+    Assertions.assertEquals(first.sha256(), second.sha256());
+    Assertions.assertEquals(6, assetCache.getTotalBytes(), "Identical bodies should be stored once.");
+    Assertions.assertTrue(first.isFresh(System.currentTimeMillis()));
+    Assertions.assertFalse(first.headers().containsKey("content-encoding"), "Bodies are stored decoded.");
+    assetCache.flush();
+
+    AssetCache reloaded = new AssetCache(option(1024));
+    AssetCache.Asset asset = reloaded.lookup("https://app/a.js");
+    Assertions.assertEquals(2, reloaded.size());
+    Assertions.assertEquals("bundle", new String(reloaded.read(asset)));
+  }
+
+  @Test
+  void testAssetCache_FollowsCacheControl() {
+    AssetCache assetCache = new AssetCache(option(1024));
+
+    Assertions.assertNull(assetCache.store("https://app/a.js", 200, Map.of("cache-control", "no-store"), new byte[1]));
+    Assertions.assertNull(assetCache.store("https://app/b.js", 200, Map.of(), new byte[1]),
+        "Responses that can't be revalidated or reused should not be stored.");
+    Assertions.assertNull(assetCache.store("https://app/c.js", 404, CACHEABLE, new byte[1]));
+
+    AssetCache.Asset asset = assetCache.store("https://app/d.js", 200,
+        Map.of("cache-control", "no-cache", "etag", "\"v1\""), new byte[1]);
+    Assertions.assertFalse(asset.isFresh(System.currentTimeMillis()));
+    Assertions.assertEquals(Map.of("if-none-match", "\"v1\""), asset.validators());
+
+    AssetCache.Asset revalidated = assetCache.revalidate("https://app/d.js", Map.of("cache-control", "max-age=60"));
+    Assertions.assertTrue(revalidated.isFresh(System.currentTimeMillis()));
+  }
+
+  @Test
+  void testAssetCache_EvictsLeastRecentlyUsedOverSizeCap() {
+    AssetCache assetCache = new AssetCache(option(10));
+    assetCache.store("https://app/a.js", 200, CACHEABLE, "aaaa".getBytes());
+    assetCache.store("https://app/b.js", 200, CACHEABLE, "bbbb".getBytes());
+    assetCache.lookup("https://app/a.js");
+    assetCache.store("https://app/c.js", 200, CACHEABLE, "cccc".getBytes());
+
+    Assertions.assertNull(assetCache.lookup("https://app/b.js"));
+    Assertions.assertNotNull(assetCache.lookup("https://app/a.js"));
+    Assertions.assertEquals(8, assetCache.getTotalBytes());
+    Assertions.assertEquals(1, assetCache.getEvictions());
+  }
+
+  @Test
+  void testAssetCache_RefetchingSameBodyKeepsBlob() {
+    AssetCache assetCache = new AssetCache(option(1024));
+    assetCache.store("https://app/a.js", 200, CACHEABLE, "bundle".getBytes());
+    AssetCache.Asset refetched = assetCache.store("https://app/a.js", 200, CACHEABLE, "bundle".getBytes());
+
+    Assertions.assertSame(refetched, assetCache.lookup("https://app/a.js"));
+    Assertions.assertEquals("bundle", new String(assetCache.read(refetched)), "The shared blob should not be deleted.");
+    Assertions.assertEquals(6, assetCache.getTotalBytes());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testAssetCache_ResumesRequestWhenFetchFails() {
+    AtomicReference<Consumer<Route>> handler = new AtomicReference<>();
+    BrowserContext context = Fake.of(BrowserContext.class)
+        .answers("route", methodArgs -> {
+          handler.set((Consumer<Route>) methodArgs[1]);
+          return null;
+        })
+        .get();
+    Request request = Fake.of(Request.class)
+        .returns("method", "GET")
+        .returns("resourceType", "script")
+        .returns("url", "https://app/offline.js")
+        .returns("headers", Map.of())
+        .get();
+    Fake<Route> route = Fake.of(Route.class)
+        .returns("request", request)
+        .answers("fetch", methodArgs -> {
+          throw new PlaywrightException("net::ERR_CONNECTION_REFUSED");
+        });
+
+    new AssetCache(option(1024)).attach(context);
+    handler.get().accept(route.get());
+
+    Assertions.assertEquals(List.of("request", "fetch", "resume"), route.calls());
+  }
+
+  private AssetCacheOption option(long maxBytes) {
+    return AssetCacheOption.builder().directory(dir).maxBytes(maxBytes).build();
+  }
+}
@@ -0,0 +1,132 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.playwright.Fake;
+import org.playwright.core.options.BrowserContextOption;
+import org.playwright.core.options.BrowserContextPoolOption;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+class BrowserContextPoolTest {
+  private static final BrowserContextOption OPTION = BrowserContextOption.builder().build();
+  private static final BrowserContextPoolOption REUSE = BrowserContextPoolOption.builder().reuseReleasedContexts(true)
+      .build();
+  private static final String CLEAN_STATE = "{\"cookies\":[],\"origins\":[]}";
+  private static final String DIRTY_STATE = "{\"cookies\":[],\"origins\":[{\"origin\":\"http://localhost\","
+      + "\"localStorage\":[{\"name\":\"key\",\"value\":\"value\"}]}]}";
+
+  private final AtomicInteger newContextCalls = new AtomicInteger();
+  private final List<String> refillThreads = Collections.synchronizedList(new ArrayList<>());
+  private final AtomicReference<String> storageState = new AtomicReference<>(CLEAN_STATE);
+  private final List<Fake<BrowserContext>> contexts = Collections.synchronizedList(new ArrayList<>());
+
+  @Test
+  void testBrowserContextPool_ReusesReleasedContext() {
+    BrowserContextPool pool = new BrowserContextPool(REUSE);
+    Browser browser = fakeBrowser();
+
+    BrowserContext context = pool.acquire(browser, OPTION);
+    pool.release(context);
+
+    Assertions.assertSame(context, pool.acquire(browser, OPTION), "A released context should be reused.");
+    Assertions.assertEquals(1, pool.getHits());
+    Assertions.assertEquals(1, pool.getMisses());
+    Assertions.assertTrue(contexts.get(0).calls().containsAll(List.of("clearCookies", "clearPermissions",
+        "setExtraHTTPHeaders", "setOffline", "setGeolocation")), "A released context should be reset.");
+  }
+
+  @Test
+  void testBrowserContextPool_DiscardsReleasedContextByDefault() {
+    BrowserContextPool pool = new BrowserContextPool(BrowserContextPoolOption.builder().build());
+    Browser browser = fakeBrowser();
+
+    BrowserContext context = pool.acquire(browser, OPTION);
+    pool.release(context);
+
+    Assertions.assertNotSame(context, pool.acquire(browser, OPTION), "Released contexts should not be reused.");
+    Assertions.assertTrue(contexts.get(0).calls().contains("close"));
+    Assertions.assertEquals(1, pool.getDiscarded());
+  }
+
+  @Test
+  void testBrowserContextPool_KeysByOption() {
+    BrowserContextPool pool = new BrowserContextPool(BrowserContextPoolOption.builder().build());
+    Browser browser = fakeBrowser();
+
+    pool.release(pool.acquire(browser, OPTION));
+    pool.acquire(browser, OPTION.toBuilder().recordVideoDir("other").build());
+
+    Assertions.assertEquals(2, pool.getMisses(), "Contexts should only be reused for equal options.");
+  }
+
+  @Test
+  void testBrowserContextPool_DiscardsContextWithLocalStorage() {
+    BrowserContextPool pool = new BrowserContextPool(REUSE);
+    Browser browser = fakeBrowser();
+    storageState.set(DIRTY_STATE);
+
+    BrowserContext context = pool.acquire(browser, OPTION);
+    pool.release(context);
+
+    Assertions.assertNotSame(context, pool.acquire(browser, OPTION));
+    Assertions.assertEquals(1, pool.getDiscarded());
+  }
+
+  @Test
+  void testBrowserContextPool_RefillsOnReleaseWithoutBrowserPool() {
+    BrowserContextPool pool = new BrowserContextPool(BrowserContextPoolOption.builder().readyContexts(3).build());
+    Browser browser = fakeBrowser();
+
+    pool.release(pool.acquire(browser, OPTION));
+    ResourceTeardown.awaitHandoff();
+
+    Assertions.assertEquals(4, newContextCalls.get());
+    Assertions.assertEquals(3, pool.getRefilled());
+    Assertions.assertTrue(refillThreads.stream().allMatch(name -> name.startsWith("resource-teardown-")),
+        "Without a BrowserPool, the refill should not run on the releasing thread: " + refillThreads);
+  }
+
+  @Test
+  void testBrowserContextPool_RefillsReadyContexts() {
+    BrowserContextPool pool = new BrowserContextPool(REUSE.toBuilder().readyContexts(3).build());
+    pool.setRefilledByBrowserPool(true);
+    Browser browser = fakeBrowser();
+
+    pool.release(pool.acquire(browser, OPTION));
+    pool.refill(browser);
+
+    Assertions.assertEquals(3, newContextCalls.get());
+    Assertions.assertEquals(2, pool.getRefilled());
+  }
+
+  private Browser fakeBrowser() {
+    return Fake.of(Browser.class)
+        .returns("isConnected", true)
+        .answers("newContext", methodArgs -> {
+          if (newContextCalls.incrementAndGet() > 1) {
+            refillThreads.add(Thread.currentThread().getName());
+          }
+          return fakeContext();
+        })
+        .get();
+  }
+
+  private BrowserContext fakeContext() {
+    Fake<BrowserContext> context = Fake.of(BrowserContext.class);
+    context.returns("pages", List.of())
+        .answers("storageState", methodArgs -> storageState.get())
+        .answers("close", methodArgs -> {
+          context.emit("onClose", context.get());
+          return null;
+        });
+    contexts.add(context);
+    return context.get();
+  }
+}
@@ -0,0 +1,90 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.playwright.Fake;
+import org.playwright.core.options.BrowserFleetOption;
+import org.playwright.core.options.BrowserLaunchOption;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+
+@EnabledOnOs({OS.LINUX, OS.MAC})
+class BrowserFleetTest {
+  // stands in for chromium: writes DevToolsActivePort like the browser does once its endpoint is open
+  private static final String FAKE_BROWSER = """
+      #!/bin/sh
+      for arg in "$@"; do
+        case "$arg" in --user-data-dir=*) dir="${arg#--user-data-dir=}";; esac
+      done
+      printf '9222\\n/devtools/browser/%s\\n' "$(basename "$dir")" > "$dir/DevToolsActivePort"
+      exec sleep 60
+      """;
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void testBrowserFleet_HandsOutEachEndpointOnce() throws IOException {
+    try (BrowserFleet fleet = BrowserFleet.start(option(executable(FAKE_BROWSER), 2))) {
+      Assertions.assertEquals(List.of("ws://127.0.0.1:9222/devtools/browser/browser-0",
+          "ws://127.0.0.1:9222/devtools/browser/browser-1"), fleet.getEndpoints());
+
+      BrowserFleet.Lease first = BrowserFleet.claim(dir.resolve("fleet"));
+      BrowserFleet.Lease second = BrowserFleet.claim(dir.resolve("fleet"));
+      Assertions.assertNotEquals(first.endpoint(), second.endpoint());
+      Assertions.assertThrows(PlaywrightException.class, () -> BrowserFleet.claim(dir.resolve("fleet")));
+
+      first.release();
+      Assertions.assertEquals(first.endpoint(), BrowserFleet.claim(dir.resolve("fleet")).endpoint());
+    }
+
+    Assertions.assertThrows(PlaywrightException.class, () -> BrowserFleet.claim(dir.resolve("fleet")),
+        "Endpoints should be unregistered once the fleet is closed.");
+  }
+
+  @Test
+  void testBrowserFleet_FailsWhenBrowserExits() throws IOException {
+    PlaywrightException exception = Assertions.assertThrows(PlaywrightException.class,
+        () -> BrowserFleet.start(option(executable("#!/bin/sh\nexit 3\n"), 1)));
+    Assertions.assertTrue(exception.getMessage().contains("exited with code 3"), exception.getMessage());
+  }
+
+  @Test
+  void testBrowserFleet_RejectsNonChromiumBrowser() {
+    Playwright playwright = Fake.of(Playwright.class)
+        .returns("chromium", Fake.stub(BrowserType.class))
+        .returns("firefox", Fake.stub(BrowserType.class))
+        .get();
+    BrowserLaunchOption launchOption = BrowserLaunchOption.builder().browser("firefox").fleet(dir.resolve("fleet")).build();
+
+    PlaywrightException exception = Assertions.assertThrows(PlaywrightException.class,
+        () -> BrowserLauncher.launch(playwright, launchOption));
+    Assertions.assertTrue(exception.getMessage().contains("only runs Chromium"), exception.getMessage());
+  }
+
+  private BrowserFleetOption option(Path executable, int size) {
+    return BrowserFleetOption.builder()
+        .directory(dir.resolve("fleet"))
+        .executablePath(executable)
+        .size(size)
+        .startTimeoutMillis(10000)
+        .build();
+  }
+
+  private Path executable(String script) throws IOException {
+    Path executable = dir.resolve("browser.sh");
+    Files.writeString(executable, script);
+    Files.setPosixFilePermissions(executable, PosixFilePermissions.fromString("rwx------"));
+    return executable;
+  }
+}
@@ -0,0 +1,136 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.playwright.Fake;
+import org.playwright.core.options.BrowserLaunchOption;
+import org.playwright.core.options.BrowserPoolOption;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BrowserPoolTest {
+  private static final BrowserLaunchOption CHROMIUM = BrowserLaunchOption.builder().browser("chromium").build();
+  private static final BrowserLaunchOption FIREFOX = BrowserLaunchOption.builder().browser("firefox").build();
+
+  private final AtomicInteger launches = new AtomicInteger();
+
+  @Test
+  void testBrowserPool_ReusesReleasedBrowser() {
+    BrowserPool pool = newPool(BrowserPoolOption.builder().minSize(0).maxSize(2).build());
+
+    Browser browser = pool.checkout(CHROMIUM);
+    pool.release(browser);
+
+    Assertions.assertSame(browser, pool.checkout(CHROMIUM), "A released browser should be handed out again.");
+    Assertions.assertEquals(1, launches.get(), "Only one browser should have been launched.");
+  }
+
+  @Test
+  void testBrowserPool_PrefillsMinSize() {
+    BrowserPool pool = newPool(BrowserPoolOption.builder().minSize(2).maxSize(3).build());
+    pool.prefill(CHROMIUM);
+
+    Assertions.assertEquals(2, pool.idleCount("chromium"));
+    pool.checkout(CHROMIUM);
+    Assertions.assertEquals(2, launches.get(), "Checkout should use a pre-launched browser.");
+  }
+
+  @Test
+  void testBrowserPool_KeepsSubPoolPerBrowserType() {
+    BrowserPool pool = newPool(BrowserPoolOption.builder().minSize(0).maxSize(1).build());
+
+    Browser chromium = pool.checkout(CHROMIUM);
+    Browser firefox = pool.checkout(FIREFOX);
+
+    Assertions.assertNotSame(chromium, firefox);
+    Assertions.assertEquals(1, pool.size("chromium"));
+    Assertions.assertEquals(1, pool.size("firefox"));
+  }
+
+  @Test
+  void testBrowserPool_KeepsSubPoolPerLaunchOption() {
+    BrowserPool pool = newPool(BrowserPoolOption.builder().minSize(0).maxSize(1).build());
+
+    Browser headless = pool.checkout(CHROMIUM);
+    pool.release(headless);
+    Browser headed = pool.checkout(CHROMIUM.toBuilder().headless(false).build());
+
+    Assertions.assertNotSame(headless, headed, "A browser should only be reused for the options it was launched with.");
+    Assertions.assertEquals(2, pool.size("chromium"));
+    Assertions.assertSame(headless, pool.checkout(CHROMIUM.toBuilder().browser("Chromium").build()));
+  }
+
+  @Test
+  void testBrowserPool_WaitsWhenExhausted() throws Exception {
+    BrowserPool pool = newPool(BrowserPoolOption.builder().minSize(0).maxSize(1).checkoutTimeoutMillis(5000).build());
+    Browser browser = pool.checkout(CHROMIUM);
+
+    CompletableFuture<Browser> waiting = CompletableFuture.supplyAsync(() -> pool.checkout(CHROMIUM));
+    Thread.sleep(200);
+    Assertions.assertFalse(waiting.isDone(), "Checkout should wait while the pool is exhausted.");
+
+    pool.release(browser);
+    Assertions.assertSame(browser, waiting.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testBrowserPool_TimesOutWhenExhausted() {
+    BrowserPool pool = newPool(BrowserPoolOption.builder().minSize(0).maxSize(1).checkoutTimeoutMillis(50).build());
+    pool.checkout(CHROMIUM);
+
+    Assertions.assertThrows(PlaywrightException.class, () -> pool.checkout(CHROMIUM));
+  }
+
+  @Test
+  void testBrowserPool_ReplacesDisconnectedBrowser() {
+    BrowserPool pool = newPool(BrowserPoolOption.builder().minSize(0).maxSize(1).build());
+    Browser browser = pool.checkout(CHROMIUM);
+    browser.close();
+    pool.release(browser);
+
+    Assertions.assertNotSame(browser, pool.checkout(CHROMIUM));
+    Assertions.assertEquals(2, launches.get());
+  }
+
+  @Test
+  void testBrowserPool_BrowserClosedAfterPoolClosesItsDriver() {
+    Fake<Playwright> driver = Fake.of(Playwright.class);
+    BrowserPool pool = new BrowserPool(BrowserPoolOption.builder().minSize(0).maxSize(1).build(),
+        launchOption -> new BrowserPool.PooledBrowser(driver.get(), fakeBrowser()));
+    BrowserPoolSingleton.setInstance(pool);
+    Browser browser = pool.checkout(CHROMIUM);
+
+    PlaywrightResourceFactory.close(pool);
+    Assertions.assertNull(BrowserPoolSingleton.getInstance());
+    PlaywrightResourceFactory.close(browser);
+
+    Assertions.assertFalse(browser.isConnected());
+    Assertions.assertTrue(driver.calls().contains("close"), "The driver of a browser returned to a closed pool should "
+        + "be closed.");
+    Assertions.assertNull(BrowserPool.ownerOf(browser));
+  }
+
+  private BrowserPool newPool(BrowserPoolOption option) {
+    return new BrowserPool(option, launchOption -> {
+      launches.incrementAndGet();
+      return new BrowserPool.PooledBrowser(null, fakeBrowser());
+    });
+  }
+
+  private static Browser fakeBrowser() {
+    AtomicBoolean connected = new AtomicBoolean(true);
+    return Fake.of(Browser.class)
+        .answers("isConnected", methodArgs -> connected.get())
+        .answers("close", methodArgs -> {
+          connected.set(false);
+          return null;
+        })
+        .get();
+  }
+}
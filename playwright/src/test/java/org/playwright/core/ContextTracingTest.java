@@ -0,0 +1,83 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Tracing;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.playwright.Fake;
+import org.playwright.core.options.TracingPolicy;
+import org.playwright.core.options.TracingStartOption;
+import org.playwright.core.options.TracingStopOption;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+class ContextTracingTest {
+  private static final TracingStopOption STOP_OPTION = TracingStopOption.builder().tracingPath(Path.of("trace.zip")).build();
+
+  private final List<String> calls = new ArrayList<>();
+
+  @Test
+  void testContextTracing_UsesChunksOnReusedContext() {
+    BrowserContext context = fakeContext();
+    TracingStartOption startOption = TracingStartOption.builder().build();
+
+    ContextTracing.start(context, startOption);
+    ContextTracing.stop(context, STOP_OPTION, false);
+    ContextTracing.start(context, startOption);
+    ContextTracing.stop(context, STOP_OPTION, false);
+
+    Assertions.assertEquals(List.of("start", "stopChunk:trace.zip", "startChunk", "stopChunk:trace.zip"), calls);
+  }
+
+  @Test
+  void testContextTracing_DiscardsPassingChunkOnRetainOnFailure() {
+    BrowserContext context = fakeContext();
+    TracingStartOption startOption = TracingStartOption.builder().policy(TracingPolicy.RETAIN_ON_FAILURE).build();
+
+    ContextTracing.start(context, startOption);
+    ContextTracing.stop(context, STOP_OPTION, false);
+    ContextTracing.start(context, startOption);
+    ContextTracing.stop(context, STOP_OPTION, true);
+
+    Assertions.assertEquals(List.of("start", "stopChunk", "startChunk", "stopChunk:trace.zip"), calls,
+        "Passing chunks should be stopped without a path.");
+  }
+
+  @Test
+  void testContextTracing_RecordsOnlyFirstRetry() {
+    BrowserContext context = fakeContext();
+    TracingStartOption startOption = TracingStartOption.builder().policy(TracingPolicy.ON_FIRST_RETRY).build();
+
+    ContextTracing.start(context, startOption);
+    ContextTracing.stop(context, STOP_OPTION, true);
+    Assertions.assertEquals(List.of(), calls, "The first run should not be recorded.");
+
+    ContextTracing.start(context, startOption.toBuilder().retryAttempt(1).build());
+    ContextTracing.stop(context, STOP_OPTION, true);
+    Assertions.assertEquals(List.of("start", "stopChunk:trace.zip"), calls);
+  }
+
+  @Test
+  void testContextTracing_OffNeverTouchesTracing() {
+    BrowserContext context = fakeContext();
+
+    ContextTracing.start(context, TracingStartOption.builder().policy(TracingPolicy.OFF).build());
+    ContextTracing.stop(context, STOP_OPTION, true);
+
+    Assertions.assertEquals(List.of(), calls);
+  }
+
+  private BrowserContext fakeContext() {
+    Tracing tracing = Fake.of(Tracing.class)
+        .answers("start", methodArgs -> calls.add("start"))
+        .answers("startChunk", methodArgs -> calls.add("startChunk"))
+        .answers("stopChunk", methodArgs -> calls.add(methodArgs.length > 0
+            ? "stopChunk:" + ((Tracing.StopChunkOptions) methodArgs[0]).path
+            : "stopChunk"))
+        .answers("stop", methodArgs -> calls.add("stop"))
+        .get();
+    return Fake.of(BrowserContext.class).returns("tracing", tracing).get();
+  }
+}
@@ -0,0 +1,67 @@
+package org.playwright.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+class FileLocksTest {
+  @TempDir
+  Path dir;
+
+  @Test
+  void testFileLocks_ProbeFromAnotherThreadKeepsTheLock() throws Exception {
+    Path lockFile = dir.resolve("resource.lock");
+    FileLock lock = FileLocks.tryLock(lockFile);
+    Assertions.assertNotNull(lock);
+    try {
+      FileLock probe = CompletableFuture.supplyAsync(() -> {
+        try {
+          return FileLocks.tryLock(lockFile);
+        } catch (IOException e) {
+          throw new IllegalStateException(e);
+        }
+      }).get(10, TimeUnit.SECONDS);
+      Assertions.assertNull(probe, "A lock held by this JVM should not be handed out twice.");
+
+      Assertions.assertEquals("held", lockStateFromChildJvm(lockFile), "Probing from another thread should not "
+          + "release the lock held by this JVM.");
+    } finally {
+      FileLocks.release(lock);
+    }
+
+    Assertions.assertEquals("free", lockStateFromChildJvm(lockFile));
+    FileLock relocked = FileLocks.tryLock(lockFile);
+    Assertions.assertNotNull(relocked, "A released lock file should be lockable again.");
+    FileLocks.release(relocked);
+  }
+
+  private static String lockStateFromChildJvm(Path lockFile) throws Exception {
+    Process child = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+        "-cp", System.getProperty("java.class.path"), ChildJvm.class.getName(), lockFile.toString())
+        .redirectErrorStream(true)
+        .start();
+    Assertions.assertTrue(child.waitFor(30, TimeUnit.SECONDS), "The child JVM should exit.");
+    return new String(child.getInputStream().readAllBytes(), StandardCharsets.UTF_8).strip();
+  }
+
+  /**
+   * Tries the OS lock from another JVM, like a second fork would.
+   */
+  static final class ChildJvm {
+    public static void main(String[] args) throws IOException {
+      try (FileChannel channel = FileChannel.open(Path.of(args[0]), StandardOpenOption.WRITE)) {
+        FileLock lock = channel.tryLock();
+        System.out.println(lock != null ? "free" : "held");
+      }
+    }
+  }
+}
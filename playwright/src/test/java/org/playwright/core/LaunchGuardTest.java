@@ -0,0 +1,121 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.PlaywrightException;
+import dev.failsafe.CircuitBreaker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.playwright.core.options.LaunchGuardOption;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LaunchGuardTest {
+
+  @Test
+  void testLaunchGuard_DriverCreationIsRetried() {
+    var guard = new LaunchGuard(LaunchGuardOption.builder().driverRetries(2).retryDelayMillis(1).build());
+    var attempts = new AtomicInteger();
+
+    String driver = guard.createDriver(() -> {
+      if (attempts.incrementAndGet() < 3) {
+        throw new PlaywrightException("Failed to create driver");
+      }
+      return "driver";
+    });
+
+    Assertions.assertEquals("driver", driver);
+    Assertions.assertEquals(3, attempts.get());
+    Assertions.assertEquals(CircuitBreaker.State.CLOSED, guard.getDriverCircuitState());
+  }
+
+  @Test
+  void testLaunchGuard_CircuitOpensAfterConsecutiveFailures() {
+    var guard = new LaunchGuard(LaunchGuardOption.builder().failureThreshold(2).openMillis(60_000).build());
+    var attempts = new AtomicInteger();
+
+    for (int i = 0; i < 2; i++) {
+      Assertions.assertThrows(PlaywrightException.class, () -> guard.launchBrowser(() -> {
+        attempts.incrementAndGet();
+        throw new PlaywrightException("Browser closed");
+      }));
+    }
+    Assertions.assertEquals(CircuitBreaker.State.OPEN, guard.getLaunchCircuitState());
+
+    var rejected = Assertions.assertThrows(PlaywrightException.class,
+        () -> guard.launchBrowser(attempts::incrementAndGet));
+    Assertions.assertTrue(rejected.getMessage().contains("circuit is open"));
+    Assertions.assertEquals(2, attempts.get());
+    Assertions.assertEquals(1, guard.getCircuitRejections());
+    Assertions.assertEquals(CircuitBreaker.State.CLOSED, guard.getDriverCircuitState());
+  }
+
+  @Test
+  void testLaunchGuard_ConnectHasItsOwnCircuit() {
+    var guard = new LaunchGuard(LaunchGuardOption.builder().failureThreshold(1).openMillis(60_000).build());
+
+    Assertions.assertThrows(PlaywrightException.class, () -> guard.connectBrowser(() -> {
+      throw new PlaywrightException("connect ECONNREFUSED");
+    }));
+
+    Assertions.assertEquals(CircuitBreaker.State.OPEN, guard.getConnectCircuitState());
+    Assertions.assertEquals(CircuitBreaker.State.CLOSED, guard.getLaunchCircuitState());
+    Assertions.assertEquals("browser", guard.launchBrowser(() -> "browser"),
+        "A failing endpoint should not reject local launches.");
+  }
+
+  @Test
+  void testLaunchGuard_BulkheadLimitsConcurrentLaunches() throws Exception {
+    var guard = new LaunchGuard(LaunchGuardOption.builder().maxConcurrentLaunches(2).maxWaitMillis(10_000).build());
+    var maxActive = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(6);
+    try {
+      List<Future<Integer>> launches = new ArrayList<>();
+      for (int i = 0; i < 6; i++) {
+        launches.add(executor.submit(() -> guard.launchBrowser(() -> {
+          maxActive.accumulateAndGet(guard.getActiveLaunches(), Math::max);
+          Thread.sleep(50);
+          return 1;
+        })));
+      }
+      for (Future<Integer> launch : launches) {
+        Assertions.assertEquals(1, launch.get(10, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Assertions.assertTrue(maxActive.get() <= 2, "max active launches: " + maxActive.get());
+    Assertions.assertEquals(0, guard.getActiveLaunches());
+  }
+
+  @Test
+  void testLaunchGuard_BulkheadRejectsWhenNoSlotFreesUp() throws Exception {
+    var guard = new LaunchGuard(LaunchGuardOption.builder().maxConcurrentLaunches(1).maxWaitMillis(20).build());
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Boolean> holder = executor.submit(() -> guard.launchBrowser(() -> {
+        started.countDown();
+        return release.await(10, TimeUnit.SECONDS);
+      }));
+      Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+      var rejected = Assertions.assertThrows(PlaywrightException.class, () -> guard.launchBrowser(() -> true));
+      Assertions.assertTrue(rejected.getMessage().contains("no launch slot"));
+      release.countDown();
+      Assertions.assertTrue(holder.get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Assertions.assertEquals(1, guard.getBulkheadRejections());
+    Assertions.assertEquals(CircuitBreaker.State.CLOSED, guard.getLaunchCircuitState());
+  }
+}
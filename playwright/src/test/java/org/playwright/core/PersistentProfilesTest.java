@@ -0,0 +1,58 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.PlaywrightException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.playwright.core.options.PersistentProfileOption;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class PersistentProfilesTest {
+  @TempDir
+  Path dir;
+
+  @Test
+  void testPersistentProfiles_EachWorkerClaimsItsOwnDirectory() {
+    PersistentProfileOption option = option(2, null);
+    PersistentProfiles.Profile first = PersistentProfiles.claim(option, "chrome");
+    PersistentProfiles.Profile second = PersistentProfiles.claim(option, "chrome");
+
+    Assertions.assertEquals(dir.resolve("profiles/chrome-0"), first.directory());
+    Assertions.assertEquals(dir.resolve("profiles/chrome-1"), second.directory());
+    Assertions.assertTrue(Files.isDirectory(first.directory()));
+    Assertions.assertThrows(PlaywrightException.class, () -> PersistentProfiles.claim(option, "chrome"));
+
+    first.release();
+    Assertions.assertEquals(dir.resolve("profiles/chrome-0"), PersistentProfiles.claim(option, "chrome").directory(),
+        "A released directory should be reused with its caches.");
+  }
+
+  @Test
+  void testPersistentProfiles_CopiesTemplateOnFirstUse() throws IOException {
+    Path template = Files.createDirectories(dir.resolve("golden/Default"));
+    Files.writeString(template.resolve("Preferences"), "{}");
+    Files.writeString(template.resolveSibling("SingletonLock"), "golden-host-1");
+
+    PersistentProfiles.Profile profile = PersistentProfiles.claim(option(1, template.getParent()), "chromium");
+    Assertions.assertEquals("{}", Files.readString(profile.directory().resolve("Default/Preferences")));
+    Assertions.assertFalse(Files.exists(profile.directory().resolve("SingletonLock")));
+
+    Files.writeString(profile.directory().resolve("Default/Preferences"), "{\"warm\":true}");
+    profile.release();
+    profile = PersistentProfiles.claim(option(1, template.getParent()), "chromium");
+    Assertions.assertEquals("{\"warm\":true}", Files.readString(profile.directory().resolve("Default/Preferences")),
+        "The template is only copied into new directories.");
+    profile.release();
+  }
+
+  private PersistentProfileOption option(int maxProfiles, Path template) {
+    return PersistentProfileOption.builder()
+        .directory(dir.resolve("profiles"))
+        .template(template)
+        .maxProfiles(maxProfiles)
+        .build();
+  }
+}
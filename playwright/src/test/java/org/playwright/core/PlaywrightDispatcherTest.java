@@ -0,0 +1,65 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.playwright.Fake;
+import org.playwright.core.options.PlaywrightDispatcherOption;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+class PlaywrightDispatcherTest {
+
+  @Test
+  void testPlaywrightDispatcher_RunsWorkOnOwnerThread() {
+    try (PlaywrightDispatcher dispatcher = newDispatcher(1)) {
+      PlaywrightDispatcher.Lane lane = dispatcher.lane();
+
+      String threadName = lane.call(playwright -> Thread.currentThread().getName());
+      Assertions.assertEquals("playwright-driver-0", threadName);
+      Assertions.assertSame(lane, lane.call(playwright -> PlaywrightDispatcher.currentLane()));
+      Assertions.assertEquals(Boolean.TRUE, lane.call(playwright -> PlaywrightSingleton.getInstance() == playwright),
+          "Inside a lane, the Playwright resource should resolve to the lane's driver.");
+    }
+  }
+
+  @Test
+  void testPlaywrightDispatcher_SharesFewDriversAcrossManyCallers() {
+    Set<Playwright> drivers = ConcurrentHashMap.newKeySet();
+
+    try (PlaywrightDispatcher dispatcher = newDispatcher(2)) {
+      List<CompletableFuture<Boolean>> results = IntStream.range(0, 200)
+          .mapToObj(i -> CompletableFuture.supplyAsync(() -> dispatcher.call(drivers::add)))
+          .toList();
+      results.forEach(CompletableFuture::join);
+    }
+
+    Assertions.assertEquals(2, drivers.size(), "Callers should share the fixed set of drivers.");
+  }
+
+  @Test
+  void testPlaywrightDispatcher_RejectsDriverAccessOffOwnerThread() {
+    try (PlaywrightDispatcher dispatcher = newDispatcher(1)) {
+      Assertions.assertThrows(PlaywrightException.class, () -> dispatcher.lane().getPlaywright());
+    }
+  }
+
+  @Test
+  void testPlaywrightDispatcher_PropagatesWorkFailure() {
+    try (PlaywrightDispatcher dispatcher = newDispatcher(1)) {
+      Assertions.assertThrows(PlaywrightException.class, () -> dispatcher.call(playwright -> {
+        throw new PlaywrightException("failure");
+      }));
+    }
+  }
+
+  private static PlaywrightDispatcher newDispatcher(int driverCount) {
+    return new PlaywrightDispatcher(PlaywrightDispatcherOption.builder().driverCount(driverCount).build(),
+        () -> Fake.stub(Playwright.class));
+  }
+}
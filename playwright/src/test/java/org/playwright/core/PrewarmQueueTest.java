@@ -0,0 +1,77 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.playwright.Fake;
+import org.playwright.core.options.BrowserLaunchOption;
+import org.playwright.core.options.PlaywrightOption;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class PrewarmQueueTest {
+  private static final PlaywrightOption PLAYWRIGHT_OPTION = PlaywrightOption.builder().build();
+  private static final BrowserLaunchOption LAUNCH_OPTION = BrowserLaunchOption.builder().build();
+
+  private final AtomicInteger closed = new AtomicInteger();
+
+  @Test
+  void testPrewarmQueue_TakesDriverAndItsBrowserWaitingForPending() {
+    var prewarmQueue = new PrewarmQueue(option -> {
+      sleep(100);
+      return fake(Playwright.class);
+    }, (playwright, option) -> fake(Browser.class));
+    prewarmQueue.start(2, PLAYWRIGHT_OPTION, LAUNCH_OPTION);
+
+    // nothing is ready yet, the caller waits for an instance still starting instead of starting its own
+    Playwright playwright = prewarmQueue.takePlaywright(PLAYWRIGHT_OPTION);
+    Assertions.assertNotNull(playwright);
+    Assertions.assertNotNull(prewarmQueue.takeBrowser(playwright, LAUNCH_OPTION));
+    Assertions.assertNull(prewarmQueue.takeBrowser(playwright, LAUNCH_OPTION));
+    Assertions.assertNotNull(prewarmQueue.takePlaywright(PLAYWRIGHT_OPTION));
+    Assertions.assertNull(prewarmQueue.takePlaywright(PLAYWRIGHT_OPTION));
+    Assertions.assertEquals(2, prewarmQueue.getTaken());
+    Assertions.assertEquals(0, closed.get());
+  }
+
+  @Test
+  void testPrewarmQueue_OtherOptionsAreNotServed() {
+    var prewarmQueue = new PrewarmQueue(option -> fake(Playwright.class), (playwright, option) -> fake(Browser.class));
+    prewarmQueue.start(1, PLAYWRIGHT_OPTION, LAUNCH_OPTION);
+
+    Assertions.assertNull(prewarmQueue.takePlaywright(PLAYWRIGHT_OPTION.toBuilder().enableDebugMode(true).build()));
+    Playwright playwright = prewarmQueue.takePlaywright(PLAYWRIGHT_OPTION);
+    Assertions.assertNull(prewarmQueue.takeBrowser(playwright, LAUNCH_OPTION.toBuilder().browser("firefox").build()));
+    // the chromium browser launched for this driver is not needed anymore
+    Assertions.assertEquals(1, closed.get());
+  }
+
+  @Test
+  void testPrewarmQueue_DiscardClosesUnusedInstances() throws InterruptedException {
+    var prewarmQueue = new PrewarmQueue(option -> fake(Playwright.class), (playwright, option) -> fake(Browser.class));
+    prewarmQueue.start(2, PLAYWRIGHT_OPTION, LAUNCH_OPTION);
+    while (prewarmQueue.getPending() > 0) {
+      Thread.sleep(10);
+    }
+
+    prewarmQueue.discard();
+    Assertions.assertEquals(0, prewarmQueue.getReady());
+    Assertions.assertEquals(4, closed.get());
+  }
+
+  private <T> T fake(Class<T> type) {
+    return Fake.of(type)
+        .returns("isConnected", true)
+        .answers("close", methodArgs -> closed.incrementAndGet())
+        .get();
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
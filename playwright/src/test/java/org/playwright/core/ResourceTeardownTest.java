@@ -0,0 +1,131 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.Playwright;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.playwright.Fake;
+import org.playwright.core.options.PlaywrightDispatcherOption;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class ResourceTeardownTest {
+  private final PlaywrightDispatcher dispatcher = new PlaywrightDispatcher(
+      PlaywrightDispatcherOption.builder().driverCount(1).build(),
+      () -> Fake.stub(Playwright.class));
+
+  @AfterEach
+  void tearDown() {
+    ResourceTeardown.flush();
+    ResourceTeardown.setMaxPending(64);
+    dispatcher.close();
+  }
+
+  @Test
+  void testResourceTeardown_DoesNotBlockCaller() {
+    CountDownLatch release = new CountDownLatch(1);
+
+    ResourceTeardown.submit(() -> await(release));
+
+    Assertions.assertEquals(1, ResourceTeardown.getPending(), "Submitting teardown should return before it completes.");
+    Assertions.assertFalse(ResourceTeardown.awaitQuiescence(Duration.ofMillis(50)));
+
+    release.countDown();
+    Assertions.assertTrue(ResourceTeardown.awaitQuiescence(Duration.ofSeconds(5)));
+    Assertions.assertEquals(0, ResourceTeardown.getPending());
+  }
+
+  @Test
+  void testResourceTeardown_AppliesBackpressureWhenFull() throws Exception {
+    ResourceTeardown.setMaxPending(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ResourceTeardown.submit(() -> await(release));
+
+    CompletableFuture<Void> second = CompletableFuture.runAsync(() -> ResourceTeardown.submit(() -> { }));
+    Thread.sleep(200);
+    Assertions.assertFalse(second.isDone(), "Submitting teardown should block while the pipeline is full.");
+
+    release.countDown();
+    second.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void testResourceTeardown_RunsOnTeardownThread() {
+    StringBuilder threadName = new StringBuilder();
+
+    ResourceTeardown.submit(() -> threadName.append(Thread.currentThread().getName()));
+    ResourceTeardown.awaitHandoff();
+
+    Assertions.assertTrue(threadName.toString().startsWith("resource-teardown-"), threadName.toString());
+  }
+
+  @Test
+  void testResourceTeardown_HandsBackOneAtATime() {
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+    ResourceTeardown.submit(() -> {
+      await(release);
+      order.add("first");
+    });
+    ResourceTeardown.submit(() -> order.add("second"));
+    Assertions.assertTrue(order.isEmpty(), "Teardowns of the same thread should run one at a time.");
+
+    release.countDown();
+    ResourceTeardown.awaitHandoff();
+
+    Assertions.assertEquals(List.of("first", "second"), order);
+  }
+
+  @Test
+  void testResourceTeardown_RunsSubmitFromTeardownInline() {
+    ResourceTeardown.setMaxPending(1);
+    List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+    ResourceTeardown.submit(() -> {
+      threads.add(Thread.currentThread().getName());
+      ResourceTeardown.submit(() -> threads.add(Thread.currentThread().getName()));
+    });
+    ResourceTeardown.awaitHandoff();
+
+    Assertions.assertEquals(2, threads.size(), "A teardown submitting more work should not wait for its own slot.");
+    Assertions.assertEquals(threads.get(0), threads.get(1));
+  }
+
+  @Test
+  void testResourceTeardown_LaneWaitsForHandoff() {
+    AtomicBoolean tornDown = new AtomicBoolean();
+    PlaywrightDispatcher.Lane lane = dispatcher.lane();
+
+    lane.call(playwright -> {
+      ResourceTeardown.submit(() -> {
+        await(new CountDownLatch(1), 200);
+        tornDown.set(true);
+      });
+      return null;
+    });
+
+    boolean handedBack = lane.call(playwright -> tornDown.get());
+    Assertions.assertTrue(handedBack, "The next work on the lane should only start once "
+        + "its driver has been handed back.");
+  }
+
+  private static void await(CountDownLatch latch) {
+    await(latch, 5000);
+  }
+
+  private static void await(CountDownLatch latch, long millis) {
+    try {
+      latch.await(millis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
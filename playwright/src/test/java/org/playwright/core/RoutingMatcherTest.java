@@ -0,0 +1,60 @@
+package org.playwright.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.playwright.core.options.RoutingProfile;
+import org.playwright.core.options.RoutingStub;
+
+import java.util.List;
+import java.util.Set;
+
+class RoutingMatcherTest {
+  private static final RoutingProfile NO_THIRD_PARTY = RoutingProfile.builder()
+      .name("no-third-party")
+      .blockHosts(Set.of("doubleclick.net", "widget.chat.io"))
+      .blockUrlGlobs(List.of("**/*.{png,jpg}", "https://app.test/analytics/*"))
+      .build();
+  private static final RoutingProfile STUBBED_FLAGS = RoutingProfile.builder()
+      .name("stubbed-flags")
+      .blockResourceTypes(Set.of("media"))
+      .stubs(List.of(
+          RoutingStub.builder().urlGlob("**/api/flags").body("{\"beta\":true}").build(),
+          RoutingStub.builder().urlGlob("**/api/**").status(204).build()))
+      .build();
+
+  private final RoutingMatcher matcher = RoutingMatcher.compile(List.of(NO_THIRD_PARTY, STUBBED_FLAGS));
+
+  @Test
+  void testRoutingMatcher_BlocksByHostGlobAndResourceType() {
+    Assertions.assertEquals(RoutingMatcher.Action.BLOCK, action("https://ad.doubleclick.net/pixel", "script"));
+    Assertions.assertEquals(RoutingMatcher.Action.BLOCK, action("https://user@widget.chat.io:443/x", "script"));
+    Assertions.assertEquals(RoutingMatcher.Action.BLOCK, action("https://cdn.test/img/logo.png", "image"));
+    Assertions.assertEquals(RoutingMatcher.Action.BLOCK, action("https://app.test/analytics/collect", "xhr"));
+    Assertions.assertEquals(RoutingMatcher.Action.BLOCK, action("https://app.test/intro.mp4", "media"));
+
+    Assertions.assertEquals(RoutingMatcher.Action.CONTINUE, action("https://notdoubleclick.net/", "script"));
+    Assertions.assertEquals(RoutingMatcher.Action.CONTINUE, action("https://chat.io/", "script"));
+    Assertions.assertEquals(RoutingMatcher.Action.CONTINUE, action("https://app.test/analytics/a/b", "xhr"),
+        "A single * should not match across path segments.");
+  }
+
+  @Test
+  void testRoutingMatcher_UsesFirstMatchingStub() {
+    RoutingMatcher.Decision flags = matcher.match("https://app.test/api/flags", "fetch");
+    RoutingMatcher.Decision other = matcher.match("https://app.test/api/users/1", "fetch");
+
+    Assertions.assertEquals(RoutingMatcher.Action.STUB, flags.action());
+    Assertions.assertEquals("{\"beta\":true}", flags.stub().getBody());
+    Assertions.assertEquals(204, other.stub().getStatus());
+  }
+
+  @Test
+  void testRoutingMatcher_CachesCompiledProfiles() {
+    Assertions.assertSame(matcher, RoutingMatcher.compile(List.of(NO_THIRD_PARTY, STUBBED_FLAGS)));
+    Assertions.assertEquals("ad.doubleclick.net", RoutingMatcher.host("https://ad.DoubleClick.net:8443/a?b#c"));
+  }
+
+  private RoutingMatcher.Action action(String url, String resourceType) {
+    return matcher.match(url, resourceType).action();
+  }
+}
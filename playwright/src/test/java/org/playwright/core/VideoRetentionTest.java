@@ -0,0 +1,74 @@
+package org.playwright.core;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Video;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.playwright.Fake;
+import org.playwright.core.options.BrowserContextOption;
+import org.playwright.core.options.VideoPolicy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class VideoRetentionTest {
+  private static final BrowserContextOption RETAIN_ON_FAILURE = BrowserContextOption.builder()
+      .videoPolicy(VideoPolicy.RETAIN_ON_FAILURE).build();
+
+  @TempDir
+  Path videoDir;
+
+  @Test
+  void testVideoRetention_DeletesVideoOfPageClosedBeforeTheContext() throws Exception {
+    Path video = Files.createFile(videoDir.resolve("page.webm"));
+    Fake<BrowserContext> context = fakeContext();
+
+    VideoRetention.register(context.get(), RETAIN_ON_FAILURE);
+    context.emit("onPage", fakePage(video));
+    VideoRetention.close(context.get(), false, () -> { });
+
+    long deadline = System.currentTimeMillis() + 5000;
+    while (Files.exists(video) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    Assertions.assertFalse(Files.exists(video), "The video of a page closed by the test should be deleted.");
+  }
+
+  @Test
+  void testVideoRetention_KeepsVideoOfFailedTest() throws IOException {
+    Path video = Files.createFile(videoDir.resolve("page.webm"));
+    Fake<BrowserContext> context = fakeContext();
+
+    VideoRetention.register(context.get(), RETAIN_ON_FAILURE);
+    context.emit("onPage", fakePage(video));
+    VideoRetention.close(context.get(), true, () -> { });
+
+    Assertions.assertTrue(Files.exists(video));
+  }
+
+  @Test
+  void testVideoRetention_DecidesSampledVideoOnce() {
+    BrowserContextOption sampled = BrowserContextOption.builder().videoPolicy(VideoPolicy.SAMPLED).build();
+
+    BrowserContextOption recorded = sampled.toBuilder().videoSamplePercent(100).build().sampleVideo();
+    BrowserContextOption skipped = sampled.toBuilder().videoSamplePercent(0).build().sampleVideo();
+
+    Assertions.assertEquals(VideoPolicy.ALWAYS, recorded.getVideoPolicy());
+    Assertions.assertNotNull(recorded.forPlaywright().recordVideoDir);
+    Assertions.assertEquals(VideoPolicy.OFF, skipped.getVideoPolicy());
+    Assertions.assertNull(skipped.forPlaywright().recordVideoDir);
+  }
+
+  private static Fake<BrowserContext> fakeContext() {
+    return Fake.of(BrowserContext.class).returns("pages", List.of());
+  }
+
+  private static Page fakePage(Path video) {
+    Video pageVideo = Fake.of(Video.class).returns("path", video).get();
+    return Fake.of(Page.class).returns("video", pageVideo).get();
+  }
+}
@@ -1,11 +1,18 @@
 package org.playwright.failsafe;
 
+import dev.failsafe.TimeoutExceededException;
+import dev.failsafe.function.CheckedRunnable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.opentest4j.AssertionFailedError;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class FailsafeRetryTest {
   @Test
@@ -69,4 +76,97 @@ class FailsafeRetryTest {
   void testRetry_WithDefault_WhenAlwaysError() {
     Assertions.assertThrows(AssertionFailedError.class, () -> FailsafeRetry.withDefault(Assertions::fail));
   }
-}
\ No newline at end of file
+
+  @Test
+  void testRetry_TryGet_WithSubSecondBackoff() {
+    var attempts = new AtomicInteger();
+    var retryOption = RetryOption.builder().delayMillis(10).maxDelayMillis(40).jitterFactor(0.5).maxRetries(3).build();
+    long start = System.nanoTime();
+
+    String result = FailsafeRetry.tryGet(() -> {
+      if (attempts.incrementAndGet() < 3) {
+        throw new IllegalStateException("attempt " + attempts.get());
+      }
+      return "done";
+    }, retryOption);
+
+    Assertions.assertEquals("done", result);
+    Assertions.assertEquals(3, attempts.get());
+    Assertions.assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1000);
+  }
+
+  @Test
+  void testRetry_TryAgain_FailsAttemptsOverTimeout() {
+    var attempts = new AtomicInteger();
+    var retryOption = RetryOption.builder().delayMillis(1).maxRetries(1).attemptTimeoutMillis(50).build();
+
+    Assertions.assertThrows(TimeoutExceededException.class, () -> FailsafeRetry.tryAgain(() -> {
+      attempts.incrementAndGet();
+      Thread.sleep(2000);
+    }, retryOption));
+    Assertions.assertEquals(2, attempts.get());
+  }
+
+  @Test
+  void testRetry_PoliciesAreMemoized() {
+    var policy = new FailsafePolicy();
+
+    Assertions.assertSame(policy.getDefaultRetryPolicy(), new FailsafePolicy().getDefaultRetryPolicy());
+    Assertions.assertSame(policy.createExecutor(RetryOption.builder().build()),
+        policy.createExecutor(RetryOption.builder().build()));
+  }
+
+  @Test
+  void testRetry_RetryReasonTakesSecondLineOnly() {
+    Assertions.assertEquals("detail", FailsafePolicy.retryReason(new RuntimeException("Error {\n  detail\n  more")));
+    Assertions.assertEquals("single", FailsafePolicy.retryReason(new RuntimeException("single")));
+    Assertions.assertEquals("java.lang.RuntimeException", FailsafePolicy.retryReason(new RuntimeException()));
+  }
+
+  @Test
+  void testRetry_TryGetAsync_RetriesWithoutBlockingCaller() {
+    var attempts = new AtomicInteger();
+    var retryOption = RetryOption.builder().delayMillis(100).maxRetries(2).build();
+
+    var result = FailsafeRetry.tryGetAsync(() -> {
+      if (attempts.incrementAndGet() < 2) {
+        throw new IllegalStateException("attempt " + attempts.get());
+      }
+      return Thread.currentThread().getName();
+    }, retryOption);
+
+    Assertions.assertFalse(result.isDone());
+    Assertions.assertNotEquals(Thread.currentThread().getName(), result.join());
+    Assertions.assertEquals(2, attempts.get());
+  }
+
+  @Test
+  void testRetry_RunAllAsync_RunsStepsConcurrently() {
+    var started = new CountDownLatch(4);
+    var attempts = new AtomicInteger();
+    var retryOption = RetryOption.builder().delayMillis(1).maxRetries(1).build();
+    var steps = new ArrayList<CheckedRunnable>();
+    for (int i = 0; i < 4; i++) {
+      steps.add(() -> {
+        // only completes when all four steps are running at the same time
+        if (attempts.incrementAndGet() == 1) {
+          throw new IllegalStateException("first attempt");
+        }
+        started.countDown();
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+      });
+    }
+
+    FailsafeRetry.runAllAsync(steps, retryOption).join();
+    Assertions.assertEquals(5, attempts.get());
+  }
+
+  @Test
+  void testRetry_TryAgainAsync_CompletesExceptionallyWhenRetriesExhausted() {
+    var retryOption = RetryOption.builder().delayMillis(1).maxRetries(1).build();
+
+    var result = FailsafeRetry.tryAgainAsync(Assertions::fail, retryOption);
+    var error = Assertions.assertThrows(CompletionException.class, result::join);
+    Assertions.assertInstanceOf(AssertionFailedError.class, error.getCause());
+  }
+}
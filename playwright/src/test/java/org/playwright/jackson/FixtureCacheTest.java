@@ -0,0 +1,68 @@
+package org.playwright.jackson;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Map;
+
+class FixtureCacheTest {
+  @TempDir
+  Path dir;
+
+  @Test
+  void testFixtureCache_HitsUntilFileChanges() throws IOException {
+    FixtureCache cache = new FixtureCache(4, true);
+    Path fixture = write("fixture.json", "{'name': 'a'}", 1);
+
+    Assertions.assertEquals(Map.of("name", "a"), cache.read(fixture, Map.class));
+    Assertions.assertEquals(Map.of("name", "a"), cache.read(fixture, Map.class));
+    Assertions.assertEquals(1, cache.getMisses());
+    Assertions.assertEquals(1, cache.getHits());
+
+    write("fixture.json", "{'name': 'b'}", 2);
+    Assertions.assertEquals(Map.of("name", "b"), cache.read(fixture, Map.class), "Changed files should be reloaded.");
+    Assertions.assertEquals(2, cache.getMisses());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testFixtureCache_CopyOnReadReturnsIndependentValues() throws IOException {
+    Path fixture = write("fixture.json", "{'name': 'a'}", 1);
+    FixtureCache copying = new FixtureCache(4, true);
+    FixtureCache sharing = new FixtureCache(4, false);
+
+    copying.read(fixture, Map.class).put("name", "changed");
+    Assertions.assertEquals(Map.of("name", "a"), copying.read(fixture, Map.class));
+    Assertions.assertSame(sharing.read(fixture, Map.class), sharing.read(fixture, Map.class));
+  }
+
+  @Test
+  void testFixtureCache_EvictsLeastRecentlyUsed() throws IOException {
+    FixtureCache cache = new FixtureCache(2, false);
+    Path first = write("first.json", "{}", 1);
+    Path second = write("second.json", "{}", 1);
+    Path third = write("third.json", "{}", 1);
+
+    cache.read(first, Map.class);
+    cache.read(second, Map.class);
+    cache.read(first, Map.class);
+    cache.read(third, Map.class);
+    cache.read(first, Map.class);
+
+    Assertions.assertEquals(2, cache.size());
+    Assertions.assertEquals(1, cache.getEvictions());
+    Assertions.assertEquals(2, cache.getHits(), "The recently used entry should survive eviction.");
+  }
+
+  private Path write(String name, String content, long epochSecond) throws IOException {
+    Path path = Files.writeString(dir.resolve(name), content);
+    Files.setLastModifiedTime(path, FileTime.from(Instant.ofEpochSecond(epochSecond)));
+    return path;
+  }
+}
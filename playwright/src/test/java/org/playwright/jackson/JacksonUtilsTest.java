@@ -0,0 +1,99 @@
+package org.playwright.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.microsoft.playwright.PlaywrightException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class JacksonUtilsTest {
+
+  @Test
+  void testJacksonUtils_CachesReadersAndWritersPerType() {
+    Assertions.assertSame(JacksonUtils.readerFor(Item.class), JacksonUtils.readerFor(Item.class));
+    Assertions.assertSame(JacksonUtils.writerFor(Item.class), JacksonUtils.writerFor(Item.class));
+  }
+
+  @Test
+  void testJacksonUtils_ReturnsSharedObjectMapper() {
+    Assertions.assertSame(JacksonUtils.getObjectMapper(), JacksonUtils.getObjectMapper(), "The shared mapper should "
+        + "not be copied on every call.");
+    Assertions.assertSame(DataFormat.JSON.getObjectMapper(), DataFormat.JSON.getObjectMapper());
+
+    ObjectMapper copy = JacksonUtils.getObjectMapper().copy();
+    copy.enable(SerializationFeature.WRAP_ROOT_VALUE);
+    Assertions.assertFalse(JacksonUtils.getObjectMapper().isEnabled(SerializationFeature.WRAP_ROOT_VALUE));
+  }
+
+  @Test
+  void testJacksonUtils_DeserializesWithSharedConfiguration() {
+    Item item = JacksonUtils.deserializeToObj("{name: 'a', count: 1, unknown: true}", Item.class);
+    List<Item> items = JacksonUtils.deserializeToList("[{'name': 'a'}, {'name': 'b'}]", Item.class);
+    Map<String, Item> map = JacksonUtils.deserializeToMap("{'x': {'name': 'c', 'count': 3}}", Item.class);
+
+    Assertions.assertEquals(new Item("a", 1), item);
+    Assertions.assertEquals(List.of(new Item("a", 0), new Item("b", 0)), items);
+    Assertions.assertEquals(Map.of("x", new Item("c", 3)), map);
+    Assertions.assertEquals(item, JacksonUtils.deserializeToObj(JacksonUtils.serializeToString(item), Item.class));
+  }
+
+  @Test
+  void testJacksonUtils_NullClassFallsBackToUntypedValues() {
+    Assertions.assertEquals(Map.of("a", List.of(1, 2)), JacksonUtils.deserializeToObj("{'a': [1, 2]}", null));
+    Assertions.assertEquals(List.of(Map.of("a", 1)), JacksonUtils.deserializeToList("[{'a': 1}]", null));
+  }
+
+  @Test
+  void testJacksonUtils_StreamsTopLevelArrayLazily() {
+    AtomicBoolean closed = new AtomicBoolean();
+    InputStream json = new ByteArrayInputStream("[{'name': 'a'}, {'name': 'b'}, {'name': 'c'}]".getBytes()) {
+      @Override
+      public void close() {
+        closed.set(true);
+      }
+    };
+
+    try (Stream<Item> items = JacksonUtils.streamList(json, Item.class)) {
+      Assertions.assertEquals(List.of("a", "b"), items.limit(2).map(Item::name).collect(Collectors.toList()));
+    }
+    Assertions.assertTrue(closed.get(), "Closing the stream should close the source.");
+    Assertions.assertEquals(0, JacksonUtils.streamList(new ByteArrayInputStream("[]".getBytes()), Item.class).count());
+    Assertions.assertThrows(PlaywrightException.class,
+        () -> JacksonUtils.iterateList(new ByteArrayInputStream("{}".getBytes()), Item.class));
+  }
+
+  @ParameterizedTest
+  @EnumSource(DataFormat.class)
+  void testJacksonUtils_RoundTripsEveryDataFormat(DataFormat format) {
+    Item item = new Item("a", 1);
+    byte[] bytes = JacksonUtils.serializeToBytes(List.of(item), format);
+
+    Assertions.assertEquals(format == DataFormat.JSON_COMPACT ? DataFormat.JSON : format, DataFormat.detect(bytes));
+    Assertions.assertEquals(List.of(item), JacksonUtils.deserializeToList(bytes, Item.class));
+    Assertions.assertEquals(item, JacksonUtils.deserializeToObj(JacksonUtils.serializeToBytes(item, format), Item.class));
+    Assertions.assertEquals(format, DataFormat.fromFileName("snapshot" + format.getExtension()));
+  }
+
+  @Test
+  void testJacksonUtils_ReadsBinaryFixtureFiles(@TempDir Path dir) {
+    Path fixture = dir.resolve("fixture.cbor");
+    JacksonUtils.serialize(Map.of("x", new Item("c", 3)), fixture);
+
+    Assertions.assertEquals(Map.of("x", new Item("c", 3)), JacksonUtils.deserializeToMap(fixture.toString(), Item.class));
+  }
+
+  record Item(String name, int count) {
+  }
+}
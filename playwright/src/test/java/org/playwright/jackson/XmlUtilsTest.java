@@ -0,0 +1,68 @@
+package org.playwright.jackson;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class XmlUtilsTest {
+  @TempDir
+  Path dir;
+
+  private static final String FEED = "<feed><meta><title>t</title></meta><items>"
+      + "<item><name>a</name><count>1</count></item>"
+      + "<item><name>b</name><count>2</count></item>"
+      + "<item><name>c</name></item>"
+      + "</items></feed>";
+
+  @Test
+  void testXmlUtils_DeserializesLikeJacksonUtils() {
+    Assertions.assertEquals(new Item("a", 1),
+        XmlUtils.deserializeToObj("<item><name>a</name><count>1</count></item>", Item.class));
+    Assertions.assertEquals(List.of(new Item("a", 0), new Item("b", 0)),
+        XmlUtils.deserializeToList("<items><item><name>a</name></item><item><name>b</name></item></items>", Item.class));
+    Assertions.assertEquals(Map.of("x", new Item("c", 3)),
+        XmlUtils.deserializeToMap("<root><x><name>c</name><count>3</count></x></root>", Item.class));
+  }
+
+  @Test
+  void testXmlUtils_StreamsRepeatedElements() {
+    try (Stream<Item> items = XmlUtils.streamElements(new ByteArrayInputStream(FEED.getBytes()), "item", Item.class)) {
+      Assertions.assertEquals(List.of(new Item("a", 1), new Item("b", 2), new Item("c", 0)),
+          items.collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  void testXmlUtils_DetectsXmlDataFormat() {
+    Item item = new Item("a", 1);
+
+    Assertions.assertEquals(DataFormat.XML, DataFormat.detect(JacksonUtils.serializeToBytes(item, DataFormat.XML)));
+    Assertions.assertEquals(item, JacksonUtils.deserializeToObj(JacksonUtils.serializeToBytes(item, DataFormat.XML),
+        Item.class));
+  }
+
+  @Test
+  void testXmlUtils_ReadsRepeatedElementsFromFileLikeFromString() throws IOException {
+    String xml = "<r><name>x</name><item>1</item><item>2</item></r>";
+    Path file = Files.writeString(dir.resolve("repeated.xml"), xml);
+
+    Map<String, Object> fromString = XmlUtils.deserializeToMap(xml, Object.class);
+    Assertions.assertEquals(List.of("1", "2"), fromString.get("item"));
+    Assertions.assertEquals(fromString, XmlUtils.deserializeToMap(file.toString(), Object.class),
+        "A file should be read like the same document passed as a string.");
+    Assertions.assertEquals(fromString, XmlUtils.deserializeToMap(file.toString(), Object.class),
+        "A cached file should be read like the same document passed as a string.");
+  }
+
+  record Item(String name, int count) {
+  }
+}
@@ -0,0 +1,62 @@
+package org.playwright.junit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrdererContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.playwright.Fake;
+import org.playwright.jackson.JacksonUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+class DurationClassOrdererTest {
+
+  @Test
+  void testDurationHistory_SavesSmoothedDurations(@TempDir Path tempDir) {
+    Path path = tempDir.resolve("durations/test-durations.json");
+    var history = new DurationHistory(path);
+    Assertions.assertEquals(OptionalLong.empty(), history.get("a.Test"));
+
+    history.record("a.Test", Duration.ofMillis(400));
+    history.record("b.Test", Duration.ofMillis(100));
+    history.record("b.Test", Duration.ofMillis(100));
+    history.save();
+
+    var reloaded = new DurationHistory(path);
+    Assertions.assertEquals(OptionalLong.of(400), reloaded.get("a.Test"));
+    Assertions.assertEquals(OptionalLong.of(200), reloaded.get("b.Test"));
+
+    reloaded.record("a.Test", Duration.ofMillis(200));
+    reloaded.save();
+    Assertions.assertEquals(Map.of("a.Test", 300L, "b.Test", 200L),
+        JacksonUtils.deserializeToMap(path.toString(), Long.class));
+  }
+
+  @Test
+  void testDurationClassOrderer_LongestAndUnknownClassesFirst(@TempDir Path tempDir) {
+    Path path = tempDir.resolve("test-durations.json");
+    JacksonUtils.serialize(Map.of(String.class.getName(), 100L, Long.class.getName(), 900L), path);
+    List<ClassDescriptor> descriptors = new ArrayList<>(List.of(descriptor(String.class), descriptor(Long.class),
+        descriptor(Integer.class)));
+    ClassOrdererContext context = proxy(ClassOrdererContext.class, "getClassDescriptors", descriptors);
+
+    new DurationClassOrderer(new DurationHistory(path)).orderClasses(context);
+
+    Assertions.assertEquals(List.of(Integer.class, Long.class, String.class),
+        descriptors.stream().map(ClassDescriptor::getTestClass).toList());
+  }
+
+  private static ClassDescriptor descriptor(Class<?> testClass) {
+    return proxy(ClassDescriptor.class, "getTestClass", testClass);
+  }
+
+  private static <T> T proxy(Class<T> type, String getter, Object result) {
+    return Fake.of(type).returns(getter, result).get();
+  }
+}
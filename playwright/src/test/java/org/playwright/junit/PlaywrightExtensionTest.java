@@ -0,0 +1,161 @@
+package org.playwright.junit;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.playwright.common.OptionCtx;
+import org.playwright.core.options.TracingPolicy;
+import org.playwright.core.options.TracingStartOption;
+import org.playwright.core.options.TracingStopOption;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class PlaywrightExtensionTest {
+  private static final List<Run> RUNS = Collections.synchronizedList(new ArrayList<>());
+  private static final Set<BrowserContext> CLOSED = Collections.synchronizedSet(Collections.newSetFromMap(
+      new IdentityHashMap<>()));
+  private static volatile boolean launched;
+
+  @TempDir
+  Path traceDir;
+
+  @AfterEach
+  void tearDown() {
+    OptionCtx.clear(OptionCtx.Scope.SUITE);
+  }
+
+  @Test
+  void testPlaywrightExtension_PinsWorkersInjectsAndClosesResources() throws IOException {
+    // traces are only kept for failed tests, so the kept traces show which contexts were closed with TEST_FAILED
+    OptionCtx.add(OptionCtx.Scope.SUITE, OptionCtx.Key.TRACE_START_OPTION,
+        TracingStartOption.builder().policy(TracingPolicy.RETAIN_ON_FAILURE).build());
+    OptionCtx.add(OptionCtx.Scope.SUITE, OptionCtx.Key.TRACE_STOP_OPTION,
+        TracingStopOption.builder().tracingDir(traceDir).build());
+
+    TestExecutionSummary summary = launch(FirstFixture.class, SecondFixture.class);
+
+    Assertions.assertEquals(4, summary.getTestsStartedCount());
+    Assertions.assertEquals(1, summary.getTestsFailedCount(), "Only the failing fixture test should fail: "
+        + summary.getFailures().stream().map(failure -> failure.getException().toString()).toList());
+    Assertions.assertEquals(4, RUNS.size());
+
+    Map<Thread, Set<Browser>> browsersByThread = RUNS.stream()
+        .collect(Collectors.groupingBy(Run::thread, Collectors.mapping(Run::browser, Collectors.toSet())));
+    browsersByThread.values().forEach(browsers -> Assertions.assertEquals(1, browsers.size(), "Every test of a worker "
+        + "should get the worker's Browser."));
+    Assertions.assertEquals(browsersByThread.size(), RUNS.stream().map(Run::browser).distinct().count(),
+        "Each worker should be pinned to its own Browser.");
+    Assertions.assertEquals(browsersByThread.size(), RUNS.stream().map(Run::playwright).distinct().count(),
+        "Each worker should be pinned to its own Playwright.");
+
+    Assertions.assertEquals(4, RUNS.stream().map(Run::browserContext).distinct().count(), "Every test should get a new "
+        + "BrowserContext.");
+    RUNS.forEach(run -> Assertions.assertTrue(CLOSED.contains(run.browserContext()), "The BrowserContext of "
+        + run.test() + " should be closed after the test."));
+    RUNS.forEach(run -> Assertions.assertFalse(run.browser().isConnected(), "Worker browsers should be closed once the "
+        + "test plan finished."));
+
+    try (Stream<Path> traces = Files.list(traceDir)) {
+      Assertions.assertEquals(1, traces.count(), "Only the context of the failed test should be closed with "
+          + "TEST_FAILED.");
+    }
+  }
+
+  private static TestExecutionSummary launch(Class<?>... fixtures) {
+    LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+        .selectors(Stream.of(fixtures).map(fixture -> DiscoverySelectors.selectClass(fixture)).toList())
+        .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+        .configurationParameter("junit.jupiter.execution.parallel.mode.default", "same_thread")
+        .configurationParameter("junit.jupiter.execution.parallel.mode.classes.default", "concurrent")
+        .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+        .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "2")
+        .build();
+    SummaryGeneratingListener listener = new SummaryGeneratingListener();
+    launched = true;
+    try {
+      LauncherFactory.create().execute(request, listener);
+    } finally {
+      launched = false;
+    }
+    return listener.getSummary();
+  }
+
+  static boolean launched() {
+    return launched;
+  }
+
+  private static void record(String test, Playwright playwright, Browser browser, BrowserContext browserContext) {
+    browserContext.onClose(CLOSED::add);
+    RUNS.add(new Run(test, Thread.currentThread(), playwright, browser, browserContext));
+  }
+
+  /**
+   * Test and resources seen by a fixture test.
+   */
+  private record Run(String test, Thread thread, Playwright playwright, Browser browser,
+                     BrowserContext browserContext) {
+  }
+
+  /**
+   * Only runs through {@link #launch(Class[])}.
+   */
+  @EnabledIf("org.playwright.junit.PlaywrightExtensionTest#launched")
+  @ExtendWith(PlaywrightExtension.class)
+  static class FirstFixture {
+
+    @Test
+    void injectsResources(Playwright playwright, Browser browser, BrowserContext browserContext, Page page) {
+      record("FirstFixture.injectsResources", playwright, browser, browserContext);
+      Assertions.assertSame(browserContext, page.context());
+      Assertions.assertSame(browser, browserContext.browser());
+    }
+
+    @Test
+    void failsOnPurpose(Playwright playwright, Browser browser, BrowserContext browserContext) {
+      record("FirstFixture.failsOnPurpose", playwright, browser, browserContext);
+      Assertions.fail("Fails on purpose, so its BrowserContext is closed with TEST_FAILED.");
+    }
+  }
+
+  /**
+   * Only runs through {@link #launch(Class[])}.
+   */
+  @EnabledIf("org.playwright.junit.PlaywrightExtensionTest#launched")
+  @ExtendWith(PlaywrightExtension.class)
+  static class SecondFixture {
+
+    @Test
+    void injectsResources(Playwright playwright, Browser browser, BrowserContext browserContext, Page page) {
+      record("SecondFixture.injectsResources", playwright, browser, browserContext);
+      Assertions.assertSame(browserContext, page.context());
+    }
+
+    @Test
+    void injectsNewContext(Playwright playwright, Browser browser, BrowserContext browserContext) {
+      record("SecondFixture.injectsNewContext", playwright, browser, browserContext);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+package org.playwright.junit;
+
+import com.microsoft.playwright.PlaywrightException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+class WorkerParallelExecutionConfigurationStrategyTest {
+
+  @Test
+  void testWorkers_SizedFromCpusCappedByMemory() {
+    Assertions.assertEquals(8, WorkerParallelExecutionConfigurationStrategy.workers(8, 32_768, 1024));
+    Assertions.assertEquals(3, WorkerParallelExecutionConfigurationStrategy.workers(8, 3_500, 1024));
+    Assertions.assertEquals(1, WorkerParallelExecutionConfigurationStrategy.workers(8, 512, 1024));
+    Assertions.assertEquals(4, WorkerParallelExecutionConfigurationStrategy.workers(4, 0, 1024));
+  }
+
+  @Test
+  void testConfiguration_FixedPoolOfConfiguredWorkers() {
+    var configuration = new WorkerParallelExecutionConfigurationStrategy()
+        .createConfiguration(parameters(Map.of(WorkerParallelExecutionConfigurationStrategy.WORKERS, "3")));
+
+    Assertions.assertEquals(3, configuration.getParallelism());
+    Assertions.assertEquals(3, configuration.getCorePoolSize());
+    Assertions.assertEquals(3, configuration.getMaxPoolSize());
+    Assertions.assertTrue(configuration.getSaturatePredicate().test(null));
+
+    Assertions.assertThrows(PlaywrightException.class, () -> new WorkerParallelExecutionConfigurationStrategy()
+        .createConfiguration(parameters(Map.of(WorkerParallelExecutionConfigurationStrategy.WORKERS, "0"))));
+  }
+
+  private static ConfigurationParameters parameters(Map<String, String> values) {
+    return new ConfigurationParameters() {
+      @Override
+      public Optional<String> get(String key) {
+        return Optional.ofNullable(values.get(key));
+      }
+
+      @Override
+      public Optional<Boolean> getBoolean(String key) {
+        return get(key).map(Boolean::valueOf);
+      }
+
+      @Override
+      @SuppressWarnings("deprecation")
+      public int size() {
+        return values.size();
+      }
+
+      @Override
+      public Set<String> keySet() {
+        return values.keySet();
+      }
+    };
+  }
+}
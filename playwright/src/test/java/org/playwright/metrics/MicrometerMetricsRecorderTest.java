@@ -0,0 +1,29 @@
+package org.playwright.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+class MicrometerMetricsRecorderTest {
+
+  @Test
+  void testMicrometerMetricsRecorder_RecordsTimersAndCounters() {
+    var registry = new SimpleMeterRegistry();
+    var recorder = new MicrometerMetricsRecorder(registry);
+
+    recorder.recordTime("playwright.resource.create", Duration.ofMillis(30), "resource", "BROWSER");
+    recorder.recordTime("playwright.resource.create", Duration.ofMillis(10), "resource", "BROWSER");
+    recorder.recordTime("playwright.resource.create", Duration.ofMillis(5), "resource", "PLAYWRIGHT");
+    recorder.increment(RetryMetrics.RETRIES);
+    recorder.increment(RetryMetrics.RETRIES);
+
+    var browser = registry.get("playwright.resource.create").tag("resource", "BROWSER").timer();
+    Assertions.assertEquals(2, browser.count());
+    Assertions.assertEquals(40, browser.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    Assertions.assertEquals(1, registry.get("playwright.resource.create").tag("resource", "PLAYWRIGHT").timer().count());
+    Assertions.assertEquals(2, registry.get(RetryMetrics.RETRIES).counter().count(), 0.001);
+  }
+}
@@ -0,0 +1,85 @@
+package org.playwright.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+class OperationTimerTest {
+
+  @AfterEach
+  void tearDown() {
+    MetricsRecorderSingleton.setInstance(null);
+  }
+
+  @Test
+  void testOperationTimer_RecordsTimerWithSubjectTag() throws Exception {
+    var recorded = new ArrayList<String>();
+    MetricsRecorderSingleton.setInstance(new MetricsRecorder() {
+      @Override
+      public void recordTime(String name, Duration duration, String... tags) {
+        Assertions.assertTrue(duration.toMillis() >= 20);
+        recorded.add(name + List.of(tags));
+      }
+
+      @Override
+      public void increment(String name, String... tags) {
+        recorded.add(name);
+      }
+    });
+
+    try (OperationTimer ignored = OperationTimer.start(Operation.RESOURCE_CREATE, "BROWSER")) {
+      Thread.sleep(20);
+    }
+    RetryMetrics.retried(1, () -> "reason");
+
+    Assertions.assertEquals(List.of("playwright.resource.create[resource, BROWSER]", RetryMetrics.RETRIES), recorded);
+  }
+
+  @Test
+  void testOperationTimer_NoopRecorderByDefault() {
+    MetricsRecorderSingleton.setInstance(null);
+    Assertions.assertSame(NoopMetricsRecorder.INSTANCE, MetricsRecorderSingleton.getInstance());
+  }
+
+  @Test
+  void testOperationTimer_EmitsJfrEvents(@TempDir Path tempDir) throws Exception {
+    Path dump = tempDir.resolve("recording.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("org.playwright.Wait");
+      recording.enable("org.playwright.Retry");
+      recording.start();
+
+      try (OperationTimer ignored = OperationTimer.start(Operation.WAIT, "ALL")) {
+        Thread.sleep(5);
+      }
+      RetryMetrics.retried(2, () -> "Timeout 30000ms exceeded.");
+
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+    RecordedEvent wait = events.stream()
+        .filter(event -> event.getEventType().getName().equals("org.playwright.Wait"))
+        .findFirst()
+        .orElseThrow();
+    Assertions.assertEquals("ALL", wait.getString("subject"));
+    Assertions.assertTrue(wait.getDuration().toMillis() >= 5);
+
+    RecordedEvent retry = events.stream()
+        .filter(event -> event.getEventType().getName().equals("org.playwright.Retry"))
+        .findFirst()
+        .orElseThrow();
+    Assertions.assertEquals(2, retry.getInt("attempt"));
+    Assertions.assertEquals("Timeout 30000ms exceeded.", retry.getString("reason"));
+  }
+}